@@ -1,6 +1,7 @@
 package com.crocodile.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -22,12 +23,33 @@ import java.util.concurrent.Executor;
  * 
  * This ensures that word pool refills happen in the background without
  * blocking the main request threads.
+ *
+ * A second executor ("roomEventTaskExecutor") delivers room state change
+ * events to connected clients, so a mutating request does not wait for the
+ * push to every subscriber. When its queue is full the request thread makes
+ * the push itself - a dropped push would leave clients on the old state.
+ *
+ * A third executor ("historyTaskExecutor") writes completed rounds to
+ * game_history as soon as GameHistoryWriter has queued a full batch, instead
+ * of waiting for the scheduled flush. It has a single thread and a queue of
+ * one task, so at most one flush runs and one waits; further flush requests
+ * are dropped, since the waiting flush writes their rounds as well.
+ *
+ * A fourth executor ("llmRequestTaskExecutor") runs synchronous LLM calls that
+ * a request waits for, so a slow call can be hedged with a second one.
+ *
+ * With spring.threads.virtual.enabled=true the executors run their tasks on
+ * virtual threads (pool sizes still bound the concurrency, e.g. of LLM calls),
+ * and Spring Boot switches Tomcat request handling to virtual threads as well.
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
      * Create a ThreadPoolTaskExecutor for asynchronous word pool operations
      * 
@@ -51,6 +73,9 @@ public class AsyncConfig {
         // Thread name prefix for easy identification in logs
         executor.setThreadNamePrefix("word-pool-refill-");
         
+        // Refills block on LLM HTTP calls - a virtual thread releases its carrier while waiting
+        executor.setVirtualThreads(virtualThreads);
+        
         // Reject tasks when pool and queue are full (caller-runs policy)
         executor.setRejectedExecutionHandler(
             (runnable, taskExecutor) -> {
@@ -66,10 +91,90 @@ public class AsyncConfig {
         
         executor.initialize();
         
-        log.info("WordPool TaskExecutor initialized with corePoolSize={}, maxPoolSize={}, queueCapacity={}",
+        log.info("WordPool TaskExecutor initialized with corePoolSize={}, maxPoolSize={}, queueCapacity={}, virtualThreads={}",
+                 executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity(), virtualThreads);
+        
+        return executor;
+    }
+
+    /**
+     * Create a ThreadPoolTaskExecutor for pushing room state changes to clients
+     * 
+     * @return configured executor
+     */
+    @Bean(name = "roomEventTaskExecutor")
+    public Executor roomEventTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("room-event-");
+        executor.setVirtualThreads(virtualThreads);
+        
+        // Clients only fall back to polling when their connection fails, so a dropped push
+        // would leave them on the old state until the next change - run it in the caller instead
+        executor.setRejectedExecutionHandler(
+            (runnable, taskExecutor) -> {
+                log.warn("Room event task rejected - pool and queue are full. " +
+                         "Running in caller thread as fallback.");
+                runnable.run();
+            }
+        );
+        
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        
+        log.info("Room event TaskExecutor initialized with corePoolSize={}, maxPoolSize={}, queueCapacity={}",
                  executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
         
         return executor;
     }
-}
 
+    /**
+     * Create a single-thread executor for size-triggered game history flushes
+     * 
+     * @return configured executor
+     */
+    @Bean(name = "historyTaskExecutor")
+    public Executor historyTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("game-history-");
+        executor.setVirtualThreads(virtualThreads);
+        
+        // A flush is already pending - it will pick up the new rounds as well
+        executor.setRejectedExecutionHandler((runnable, taskExecutor) -> { });
+        
+        // Remaining rounds are written by GameHistoryWriter on shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        
+        return executor;
+    }
+
+    /**
+     * Create a ThreadPoolTaskExecutor for LLM calls a request is waiting for
+     * 
+     * @return configured executor
+     */
+    @Bean(name = "llmRequestTaskExecutor")
+    public Executor llmRequestTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(16);
+        // No queue: a call either starts right away or is rejected and made by the caller
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("llm-request-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        
+        log.info("LLM request TaskExecutor initialized with corePoolSize={}, maxPoolSize={}",
+                 executor.getCorePoolSize(), executor.getMaxPoolSize());
+        
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.crocodile.config;
 
+import com.crocodile.service.wordprovider.llm.LlmCallAbort;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.time.Duration;
 
 /**
@@ -16,6 +19,10 @@ import java.time.Duration;
  * This allows for consistent HTTP client behavior and future customization
  * (e.g., interceptors, error handlers, timeouts).
  *
+ * Connections opened by an LLM call that can be cancelled (a hedged call) are registered
+ * with its {@link LlmCallAbort}, so the losing call is disconnected instead of blocking
+ * until the read timeout.
+ *
  * Configuration:
  * - http.client.connect-timeout-seconds: Connection establishment timeout
  * - http.client.read-timeout-seconds: Response read timeout
@@ -42,7 +49,15 @@ public class RestTemplateConfig {
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         // Configure request factory with timeouts
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                if (!LlmCallAbort.register(connection::disconnect)) {
+                    throw new IOException("LLM call was cancelled");
+                }
+            }
+        };
         requestFactory.setConnectTimeout(Duration.ofSeconds(connectTimeoutSeconds));
         requestFactory.setReadTimeout(Duration.ofSeconds(readTimeoutSeconds));
         
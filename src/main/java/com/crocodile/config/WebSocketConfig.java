@@ -0,0 +1,31 @@
+package com.crocodile.config;
+
+import com.crocodile.controller.GameWebSocketHandler;
+import com.crocodile.controller.RoomHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket Configuration
+ *
+ * Registers the per-room game channel at /ws/rooms/{roomCode}.
+ * The handshake interceptor resolves the session cookie and room membership
+ * once per connection.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+    private final RoomHandshakeInterceptor roomHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameWebSocketHandler, RoomHandshakeInterceptor.PATH_TEMPLATE)
+            .addInterceptors(roomHandshakeInterceptor);
+    }
+}
@@ -51,7 +51,7 @@ public class GameController {
         
         log.info("Player submitting guess in room {}", roomCode);
         RoomCode code = RoomCode.of(roomCode);
-        GuessResponse response = gameRoundService.submitGuess(code, sessionId, request.getGuess());
+        GuessResponse response = gameRoundService.submitGuess(code, sessionId, request.getGuess(), request.getRound());
         return ResponseEntity.ok(response);
     }
 
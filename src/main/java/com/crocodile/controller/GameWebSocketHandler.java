@@ -0,0 +1,247 @@
+package com.crocodile.controller;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.dto.GameSocketRequest;
+import com.crocodile.dto.GameSocketResponse;
+import com.crocodile.dto.RoomStateJson;
+import com.crocodile.exception.GlobalExceptionHandler.ErrorResponse;
+import com.crocodile.exception.InvalidOperationException;
+import com.crocodile.exception.PlayerNotFoundException;
+import com.crocodile.exception.RoomNotFoundException;
+import com.crocodile.service.GameRoundService;
+import com.crocodile.service.LeadershipService;
+import com.crocodile.service.RoomCoordinator;
+import com.crocodile.service.realtime.RoomStateChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * GameWebSocketHandler - Persistent per-room game channel
+ * 
+ * Accepts guesses, new-word requests, winner assignment and leave over one WebSocket
+ * connection per player. The room code and session ID are resolved at handshake time
+ * by {@link RoomHandshakeInterceptor}. Room state changes are pushed to every open
+ * connection of the room as "state" messages. A state message wraps the room state
+ * body that {@link RoomCoordinator} serializes once per state version, so a push
+ * serializes nothing per connection.
+ */
+@Component
+@Slf4j
+public class GameWebSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 64 * 1024;
+    private static final byte[] STATE_MESSAGE_PREFIX =
+        "{\"type\":\"state\",\"payload\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STATE_MESSAGE_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final GameRoundService gameRoundService;
+    private final LeadershipService leadershipService;
+    private final RoomCoordinator roomCoordinator;
+    private final ObjectMapper objectMapper;
+    private final Executor roomEventTaskExecutor;
+
+    private final ConcurrentHashMap<RoomCode, Set<WebSocketSession>> sessionsByRoom = new ConcurrentHashMap<>();
+
+    public GameWebSocketHandler(GameRoundService gameRoundService,
+                                LeadershipService leadershipService,
+                                RoomCoordinator roomCoordinator,
+                                ObjectMapper objectMapper,
+                                @Qualifier("roomEventTaskExecutor") Executor roomEventTaskExecutor) {
+        this.gameRoundService = gameRoundService;
+        this.leadershipService = leadershipService;
+        this.roomCoordinator = roomCoordinator;
+        this.objectMapper = objectMapper;
+        this.roomEventTaskExecutor = roomEventTaskExecutor;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        RoomCode roomCode = roomCode(session);
+        // Broadcasts and replies are sent from different threads
+        WebSocketSession concurrentSession =
+            new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT);
+        session.getAttributes().put(ConcurrentWebSocketSessionDecorator.class.getName(), concurrentSession);
+        
+        sessionsByRoom.computeIfAbsent(roomCode, k -> ConcurrentHashMap.newKeySet()).add(concurrentSession);
+        log.debug("WebSocket connected to room {}", roomCode);
+        
+        sendState(concurrentSession, stateMessage(roomCoordinator.getRoomStateJson(roomCode, sessionId(session))));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        RoomCode roomCode = roomCode(session);
+        String sessionId = sessionId(session);
+        WebSocketSession concurrentSession = concurrentSession(session);
+        
+        GameSocketRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), GameSocketRequest.class);
+        } catch (JsonProcessingException e) {
+            sendError(concurrentSession, "Malformed message", HttpStatus.BAD_REQUEST);
+            return;
+        }
+        
+        try {
+            switch (request.getType() == null ? "" : request.getType()) {
+                case "guess" -> {
+                    if (request.getGuess() == null || request.getGuess().isBlank()) {
+                        sendError(concurrentSession, "Guess cannot be empty", HttpStatus.BAD_REQUEST);
+                        return;
+                    }
+                    send(concurrentSession, "guess-result",
+                        gameRoundService.submitGuess(roomCode, sessionId, request.getGuess(), request.getRound()));
+                }
+                case "new-word" -> send(concurrentSession, "new-word",
+                    gameRoundService.generateNewWord(roomCode, sessionId));
+                case "assign-winner" -> {
+                    if (request.getWinnerId() == null) {
+                        sendError(concurrentSession, "Winner ID is required", HttpStatus.BAD_REQUEST);
+                        return;
+                    }
+                    send(concurrentSession, "assign-winner",
+                        gameRoundService.assignWinner(roomCode, sessionId, request.getWinnerId()));
+                }
+                case "leave" -> {
+                    leadershipService.handlePlayerLeave(roomCode, sessionId);
+                    send(concurrentSession, "left", null);
+                    session.close(CloseStatus.NORMAL);
+                }
+                default -> sendError(concurrentSession, "Unknown message type: " + request.getType(),
+                    HttpStatus.BAD_REQUEST);
+            }
+        } catch (RoomNotFoundException | PlayerNotFoundException e) {
+            log.warn("WebSocket request in room {} failed: {}", roomCode, e.getMessage());
+            sendError(concurrentSession, e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (InvalidOperationException e) {
+            log.warn("Invalid operation in room {}: {}", roomCode, e.getMessage());
+            sendError(concurrentSession, e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            log.error("Unhandled exception in WebSocket request for room {}: ", roomCode, e);
+            sendError(concurrentSession, "An unexpected error occurred: " + e.getMessage(),
+                HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        RoomCode roomCode = roomCode(session);
+        WebSocketSession concurrentSession = concurrentSession(session);
+        sessionsByRoom.computeIfPresent(roomCode, (code, sessions) -> {
+            sessions.remove(concurrentSession);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        log.debug("WebSocket disconnected from room {} with status {}", roomCode, status);
+    }
+
+    /**
+     * Push the new room state to every WebSocket connection of the changed room
+     * 
+     * Runs on roomEventTaskExecutor (submitted explicitly, since this bean is
+     * registered as a WebSocketHandler and must not be proxied).
+     * 
+     * @param event the room state change
+     */
+    @EventListener
+    public void onRoomStateChanged(RoomStateChangedEvent event) {
+        RoomCode roomCode = event.roomCode();
+        Set<WebSocketSession> sessions = sessionsByRoom.get(roomCode);
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        
+        roomEventTaskExecutor.execute(() -> pushState(roomCode, sessions));
+    }
+
+    private void pushState(RoomCode roomCode, Set<WebSocketSession> sessions) {
+        // Players share one body and the leader gets the other - wrap each body only once
+        Map<byte[], TextMessage> messagesByBody = new IdentityHashMap<>();
+        Map<String, TextMessage> messagesBySession = new HashMap<>();
+        try {
+            for (WebSocketSession session : sessions) {
+                TextMessage message = messagesBySession.computeIfAbsent(sessionId(session), sessionId -> {
+                    RoomStateJson state = roomCoordinator.getRoomStateJson(roomCode, sessionId);
+                    return messagesByBody.computeIfAbsent(state.body(), body -> stateMessage(state));
+                });
+                sendState(session, message);
+            }
+        } catch (RoomNotFoundException e) {
+            log.warn("Room {} disappeared, skipping WebSocket push", roomCode);
+        }
+    }
+
+    /**
+     * Wrap a serialized room state into a "state" {@link GameSocketResponse} without parsing it
+     */
+    private static TextMessage stateMessage(RoomStateJson state) {
+        byte[] body = state.body();
+        byte[] message = new byte[STATE_MESSAGE_PREFIX.length + body.length + STATE_MESSAGE_SUFFIX.length];
+        System.arraycopy(STATE_MESSAGE_PREFIX, 0, message, 0, STATE_MESSAGE_PREFIX.length);
+        System.arraycopy(body, 0, message, STATE_MESSAGE_PREFIX.length, body.length);
+        System.arraycopy(STATE_MESSAGE_SUFFIX, 0, message, STATE_MESSAGE_PREFIX.length + body.length,
+            STATE_MESSAGE_SUFFIX.length);
+        return new TextMessage(message);
+    }
+
+    private void sendState(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send 'state' over WebSocket: {}", e.getMessage());
+        }
+    }
+
+    private void send(WebSocketSession session, String type, Object payload) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            GameSocketResponse response = GameSocketResponse.builder()
+                .type(type)
+                .payload(payload)
+                .build();
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send '{}' over WebSocket: {}", type, e.getMessage());
+        }
+    }
+
+    private void sendError(WebSocketSession session, String message, HttpStatus status) {
+        send(session, "error", new ErrorResponse(message, status.value()));
+    }
+
+    private static RoomCode roomCode(WebSocketSession session) {
+        return (RoomCode) session.getAttributes().get(RoomHandshakeInterceptor.ROOM_CODE_ATTRIBUTE);
+    }
+
+    private static String sessionId(WebSocketSession session) {
+        return (String) session.getAttributes().get(RoomHandshakeInterceptor.SESSION_ID_ATTRIBUTE);
+    }
+
+    private static WebSocketSession concurrentSession(WebSocketSession session) {
+        return (WebSocketSession) session.getAttributes().get(ConcurrentWebSocketSessionDecorator.class.getName());
+    }
+}
@@ -3,15 +3,22 @@ package com.crocodile.controller;
 import com.crocodile.domain.RoomCode;
 import com.crocodile.dto.CreateRoomRequest;
 import com.crocodile.dto.CreateRoomResponse;
-import com.crocodile.dto.RoomStateResponse;
+import com.crocodile.dto.RoomStateJson;
 import com.crocodile.service.RoomCoordinator;
 import com.crocodile.service.SessionService;
+import com.crocodile.service.realtime.RoomStateBroadcaster;
+import com.crocodile.service.realtime.RoomStateLongPoller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,6 +30,8 @@ public class RoomController {
 
     private final RoomCoordinator roomCoordinator;
     private final SessionService sessionService;
+    private final RoomStateBroadcaster roomStateBroadcaster;
+    private final RoomStateLongPoller roomStateLongPoller;
 
     @PostMapping
     public ResponseEntity<CreateRoomResponse> createRoom(@Valid @RequestBody CreateRoomRequest request) {
@@ -37,14 +46,48 @@ public class RoomController {
     }
 
     @GetMapping("/{code}/state")
-    public ResponseEntity<RoomStateResponse> getRoomState(
+    public ResponseEntity<byte[]> getRoomState(
             @PathVariable String code,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        
+        String sessionId = sessionService.getSessionIdFromRequest(request).orElse("");
+        RoomCode roomCode = RoomCode.of(code);
+        
+        // Answer 304 from the room version alone; the body is built only when the state changed
+        long stateVersion = roomCoordinator.getStateVersion(roomCode);
+        if (webRequest.checkNotModified(stateETag(stateVersion))) {
+            return null;
+        }
+        
+        // Pre-serialized body shared by all players of the room
+        RoomStateJson state = roomCoordinator.getRoomStateJson(roomCode, sessionId);
+        return ResponseEntity.ok()
+            .eTag(stateETag(state.stateVersion()))
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(state.body());
+    }
+
+    @GetMapping(value = "/{code}/state", params = "sinceVersion")
+    public DeferredResult<ResponseEntity<byte[]>> awaitRoomState(
+            @PathVariable String code,
+            @RequestParam long sinceVersion,
             HttpServletRequest request) {
         
         String sessionId = sessionService.getSessionIdFromRequest(request).orElse("");
         RoomCode roomCode = RoomCode.of(code);
-        RoomStateResponse response = roomCoordinator.getRoomState(roomCode, sessionId);
-        return ResponseEntity.ok(response);
+        return roomStateLongPoller.awaitChange(roomCode, sessionId, sinceVersion);
+    }
+
+    @GetMapping(value = "/{code}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRoomState(
+            @PathVariable String code,
+            HttpServletRequest request) {
+        
+        String sessionId = sessionService.getSessionIdFromRequest(request).orElse("");
+        RoomCode roomCode = RoomCode.of(code);
+        return roomStateBroadcaster.subscribe(roomCode, sessionId);
     }
 
     @GetMapping("/themes")
@@ -53,6 +96,18 @@ public class RoomController {
         return ResponseEntity.ok(themes);
     }
 
+    /**
+     * Build the ETag of a room state.
+     * The response differs per session (the leader sees the word), but leadership changes
+     * always bump the version, so the version alone identifies what a given client has seen.
+     * 
+     * @param stateVersion the room state version
+     * @return weak ETag value
+     */
+    private static String stateETag(long stateVersion) {
+        return "W/\"" + stateVersion + "\"";
+    }
+
     @GetMapping("/{code}/exists")
     public ResponseEntity<Boolean> checkRoomExists(@PathVariable String code) {
         RoomCode roomCode = RoomCode.of(code);
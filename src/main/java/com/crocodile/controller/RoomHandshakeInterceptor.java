@@ -0,0 +1,87 @@
+package com.crocodile.controller;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.exception.RoomNotFoundException;
+import com.crocodile.service.RoomCoordinator;
+import com.crocodile.service.SessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves the session cookie, room code and room membership once per WebSocket connection
+ * 
+ * The resolved values are stored in the WebSocket session attributes and reused
+ * by {@link GameWebSocketHandler} for every message on the connection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String PATH_TEMPLATE = "/ws/rooms/{roomCode}";
+    static final String ROOM_CODE_ATTRIBUTE = "roomCode";
+    static final String SESSION_ID_ATTRIBUTE = "sessionId";
+
+    private static final UriTemplate URI_TEMPLATE = new UriTemplate(PATH_TEMPLATE);
+
+    private final SessionService sessionService;
+    private final RoomCoordinator roomCoordinator;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        
+        Optional<String> sessionId = sessionService.getSessionIdFromRequest(servletRequest.getServletRequest());
+        if (sessionId.isEmpty()) {
+            log.warn("WebSocket handshake rejected: no session cookie");
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        
+        RoomCode roomCode;
+        try {
+            String path = request.getURI().getPath();
+            roomCode = RoomCode.of(URI_TEMPLATE.match(path).get("roomCode"));
+        } catch (IllegalArgumentException e) {
+            log.warn("WebSocket handshake rejected: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        
+        try {
+            if (!roomCoordinator.isPlayerInRoom(roomCode, sessionId.get())) {
+                log.warn("WebSocket handshake rejected: session is not a player of room {}", roomCode);
+                response.setStatusCode(HttpStatus.FORBIDDEN);
+                return false;
+            }
+        } catch (RoomNotFoundException e) {
+            log.warn("WebSocket handshake rejected: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        
+        attributes.put(ROOM_CODE_ATTRIBUTE, roomCode);
+        attributes.put(SESSION_ID_ATTRIBUTE, sessionId.get());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
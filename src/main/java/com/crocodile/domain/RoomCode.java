@@ -3,60 +3,122 @@ package com.crocodile.domain;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 /**
  * RoomCode - Value Object for room identification
- * 
+ *
  * Immutable representation of a room code with validation.
  * Room codes must be alphanumeric without confusing characters.
+ *
+ * The 32-symbol alphabet allows packing a code into an int with 5 bits per character
+ * (30 bits for 6 characters). The packed form is what identifies a room: it is stored
+ * in rooms.code_packed and used for equality and hashing. Parsing validates characters
+ * with a lookup table and formatting builds the string from the bits, neither allocates
+ * beyond the resulting string.
  */
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class RoomCode {
-    
-    private static final Pattern VALID_CODE_PATTERN = Pattern.compile("^[A-HJ-NP-Z2-9]+$");
+
+    private static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final int BITS_PER_CHAR = 5;
+    private static final int CHAR_MASK = (1 << BITS_PER_CHAR) - 1;
     private static final int EXPECTED_LENGTH = 6;
-    
+    private static final int PACKED_LIMIT = 1 << (BITS_PER_CHAR * EXPECTED_LENGTH);
+
+    // Symbol index by ASCII character (lower case letters map like upper case), -1 if not allowed
+    private static final byte[] SYMBOL_INDEX = new byte[128];
+
+    static {
+        Arrays.fill(SYMBOL_INDEX, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            char c = ALPHABET.charAt(i);
+            SYMBOL_INDEX[c] = (byte) i;
+            SYMBOL_INDEX[Character.toLowerCase(c)] = (byte) i;
+        }
+    }
+
     private final String value;
-    
-    private RoomCode(String value) {
+    @EqualsAndHashCode.Include
+    private final int packed;
+
+    private RoomCode(String value, int packed) {
+        this.value = value;
+        this.packed = packed;
+    }
+
+    /**
+     * Create a RoomCode from a string value
+     *
+     * @param value the string representation
+     * @return the RoomCode instance
+     * @throws IllegalArgumentException if value is invalid
+     */
+    public static RoomCode of(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Room code cannot be null or blank");
         }
-        
-        String normalized = value.trim().toUpperCase();
-        
-        if (normalized.length() != EXPECTED_LENGTH) {
-            throw new IllegalArgumentException(
-                String.format("Room code must be exactly %d characters, got %d", 
-                    EXPECTED_LENGTH, normalized.length())
-            );
+
+        int start = 0;
+        int end = value.length();
+        while (value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (value.charAt(end - 1) <= ' ') {
+            end--;
         }
-        
-        if (!VALID_CODE_PATTERN.matcher(normalized).matches()) {
+
+        if (end - start != EXPECTED_LENGTH) {
             throw new IllegalArgumentException(
-                "Room code must be alphanumeric without confusing characters (I, O, 0, 1)"
+                String.format("Room code must be exactly %d characters, got %d",
+                    EXPECTED_LENGTH, end - start)
             );
         }
-        
-        this.value = normalized;
+
+        int packed = 0;
+        boolean canonical = start == 0 && end == value.length();
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            int index = c < SYMBOL_INDEX.length ? SYMBOL_INDEX[c] : -1;
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                    "Room code must be alphanumeric without confusing characters (I, O, 0, 1)"
+                );
+            }
+            canonical &= ALPHABET.charAt(index) == c;
+            packed = (packed << BITS_PER_CHAR) | index;
+        }
+
+        // Reuse the given string when it is already trimmed and upper case
+        return new RoomCode(canonical ? value : format(packed), packed);
     }
-    
+
     /**
-     * Create a RoomCode from a string value
-     * 
-     * @param value the string representation
+     * Create a RoomCode from its packed representation
+     *
+     * @param packed the packed code, as returned by {@link #getPacked()}
      * @return the RoomCode instance
-     * @throws IllegalArgumentException if value is invalid
+     * @throws IllegalArgumentException if the value is not a packed code
      */
-    public static RoomCode of(String value) {
-        return new RoomCode(value);
+    public static RoomCode ofPacked(int packed) {
+        if (packed < 0 || packed >= PACKED_LIMIT) {
+            throw new IllegalArgumentException("Not a packed room code: " + packed);
+        }
+        return new RoomCode(format(packed), packed);
+    }
+
+    private static String format(int packed) {
+        char[] chars = new char[EXPECTED_LENGTH];
+        for (int i = EXPECTED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt(packed & CHAR_MASK);
+            packed >>>= BITS_PER_CHAR;
+        }
+        return new String(chars);
     }
-    
+
     @Override
     public String toString() {
         return value;
     }
 }
-
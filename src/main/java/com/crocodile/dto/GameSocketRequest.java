@@ -0,0 +1,21 @@
+package com.crocodile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message sent by the client over the room WebSocket channel
+ * 
+ * Supported types: "guess" (uses guess and round), "new-word", "assign-winner" (uses winnerId), "leave".
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSocketRequest {
+    
+    private String type;
+    private String guess;
+    private Long round;
+    private Long winnerId;
+}
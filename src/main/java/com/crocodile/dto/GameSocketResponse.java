@@ -0,0 +1,22 @@
+package com.crocodile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message sent by the server over the room WebSocket channel
+ * 
+ * Types: "state" (RoomStateResponse), "guess-result" and "assign-winner" (GuessResponse),
+ * "new-word" (NewWordResponse), "left" (no payload), "error" (ErrorResponse).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameSocketResponse {
+    
+    private String type;
+    private Object payload;
+}
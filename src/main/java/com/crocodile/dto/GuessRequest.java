@@ -12,5 +12,8 @@ public class GuessRequest {
     
     @NotBlank(message = "Guess cannot be empty")
     private String guess;
+    
+    // Round the guess was made for (from room state); optional
+    private Long round;
 }
 
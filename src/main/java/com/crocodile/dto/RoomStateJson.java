@@ -0,0 +1,10 @@
+package com.crocodile.dto;
+
+/**
+ * Room state already serialized to JSON, as returned to a particular player
+ * 
+ * @param stateVersion the room state version of the body
+ * @param body the serialized {@link RoomStateResponse}
+ */
+public record RoomStateJson(long stateVersion, byte[] body) {
+}
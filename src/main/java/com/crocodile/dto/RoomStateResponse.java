@@ -21,5 +21,7 @@ public class RoomStateResponse {
     private String currentLeaderName;
     private List<PlayerDto> players;
     private Boolean hasWord;
+    private Long stateVersion;
+    private Long round;
 }
 
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class GameHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_history_id_seq")
+    @SequenceGenerator(name = "game_history_id_seq", sequenceName = "game_history_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "room_id", nullable = false)
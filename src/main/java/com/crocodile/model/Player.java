@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Player {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_id_seq")
+    @SequenceGenerator(name = "players_id_seq", sequenceName = "players_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "room_id", nullable = false)
@@ -18,10 +18,11 @@ import java.time.LocalDateTime;
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_id_seq")
+    @SequenceGenerator(name = "rooms_id_seq", sequenceName = "rooms_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 10)
+    @Column(name = "code_packed", nullable = false, unique = true)
     @Convert(converter = RoomCodeConverter.class)
     private RoomCode code;
 
@@ -50,6 +51,16 @@ public class Room {
     @Column(name = "last_activity")
     private LocalDateTime lastActivity;
 
+    // Optimistic lock shared with the room engine's write-behind flush
+    @Version
+    @Column(name = "state_version", nullable = false)
+    @Builder.Default
+    private Long stateVersion = 0L;
+
+    @Column(name = "current_round", nullable = false)
+    @Builder.Default
+    private Long currentRound = 0L;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -58,11 +69,6 @@ public class Room {
             status = RoomStatus.ACTIVE;
         }
     }
-
-    @PreUpdate
-    protected void onUpdate() {
-        lastActivity = LocalDateTime.now();
-    }
     
     /**
      * Get current word as WordValue domain object
@@ -20,7 +20,8 @@ import lombok.*;
 public class Word {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "words_id_seq")
+    @SequenceGenerator(name = "words_id_seq", sequenceName = "words_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -7,19 +7,19 @@ import jakarta.persistence.Converter;
 /**
  * JPA Converter for RoomCode Value Object
  * 
- * Converts between RoomCode domain object and String database representation.
+ * Converts between RoomCode domain object and its packed Integer database representation.
  */
 @Converter(autoApply = true)
-public class RoomCodeConverter implements AttributeConverter<RoomCode, String> {
+public class RoomCodeConverter implements AttributeConverter<RoomCode, Integer> {
     
     @Override
-    public String convertToDatabaseColumn(RoomCode roomCode) {
-        return roomCode == null ? null : roomCode.getValue();
+    public Integer convertToDatabaseColumn(RoomCode roomCode) {
+        return roomCode == null ? null : roomCode.getPacked();
     }
     
     @Override
-    public RoomCode convertToEntityAttribute(String dbData) {
-        return dbData == null ? null : RoomCode.of(dbData);
+    public RoomCode convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : RoomCode.ofPacked(dbData);
     }
 }
 
@@ -18,4 +18,7 @@ public interface WordRepository extends JpaRepository<Word, Long> {
     
     @Query(value = "SELECT * FROM words WHERE theme = :theme ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
     Word findRandomByTheme(@Param("theme") String theme);
+    
+    @Query(value = "SELECT * FROM words WHERE theme = :theme ORDER BY RANDOM() LIMIT :count", nativeQuery = true)
+    List<Word> findRandomByTheme(@Param("theme") String theme, @Param("count") int count);
 }
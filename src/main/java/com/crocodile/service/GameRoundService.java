@@ -4,10 +4,10 @@ import com.crocodile.domain.RoomCode;
 import com.crocodile.dto.GuessResponse;
 import com.crocodile.dto.NewWordResponse;
 import com.crocodile.exception.InvalidOperationException;
-import com.crocodile.model.GameHistory;
-import com.crocodile.model.Player;
-import com.crocodile.model.Room;
-import com.crocodile.repository.GameHistoryRepository;
+import com.crocodile.exception.PlayerNotFoundException;
+import com.crocodile.service.engine.LivePlayer;
+import com.crocodile.service.engine.LiveRoom;
+import com.crocodile.service.engine.RoomEngine;
 import com.crocodile.service.wordprovider.WordProvider;
 import com.crocodile.service.wordprovider.WordProviderFactory;
 import com.crocodile.util.StringSimilarity;
@@ -15,9 +15,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
 
 /**
  * GameRoundService - Black Box for Game Round Mechanics
@@ -29,6 +26,9 @@ import java.time.LocalDateTime;
  * - Winner assignment
  * - Game history recording
  * 
+ * Works on the in-memory room state of {@link RoomEngine}; the database is
+ * updated by the engine's write-behind flush.
+ * 
  * This service can be completely replaced without affecting other components.
  */
 @Service
@@ -36,11 +36,9 @@ import java.time.LocalDateTime;
 @Slf4j
 public class GameRoundService {
 
-    private final RoomService roomService;
-    private final PlayerService playerService;
+    private final RoomEngine roomEngine;
     private final LeadershipService leadershipService;
     private final WordProviderFactory wordProviderFactory;
-    private final GameHistoryRepository gameHistoryRepository;
 
     @Value("${game.score.points-per-win}")
     private int pointsPerWin;
@@ -48,35 +46,52 @@ public class GameRoundService {
     /**
      * Submit a guess for the current word
      * 
+     * Guesses of one room are serialized by the engine, so only the first correct guess
+     * of a round wins; later ones see the round closed and get a plain "already guessed"
+     * answer. A guess made for an earlier round (the client's state was stale) is never
+     * matched against the new word; its answer says that the word has changed.
+     * 
      * @param roomCode the room code
      * @param sessionId the player's session ID
      * @param guess the guessed word
+     * @param round the round the guess was made for, or null if unknown
      * @return result of the guess
      */
-    @Transactional
-    public GuessResponse submitGuess(RoomCode roomCode, String sessionId, String guess) {
-        Room room = roomService.getRoomByCode(roomCode);
-        Player player = playerService.getPlayerBySessionId(room.getId(), sessionId)
-            .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
-        
-        if (player.getIsLeader()) {
-            throw new InvalidOperationException("Leader cannot submit guesses");
-        }
-        
-        if (room.getCurrentWord() == null) {
-            throw new InvalidOperationException("No active word to guess");
-        }
-        
-        boolean isCorrect = StringSimilarity.isCorrectGuess(room.getCurrentWord(), guess);
-        
-        if (isCorrect) {
-            return handleCorrectGuess(room, player);
-        }
-        
-        return GuessResponse.builder()
-            .correct(false)
-            .message("Неправильно, попробуйте ещё раз!")
-            .build();
+    public GuessResponse submitGuess(RoomCode roomCode, String sessionId, String guess, Long round) {
+        return roomEngine.update(roomCode, room -> {
+            LivePlayer player = room.findPlayerBySessionId(sessionId)
+                .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
+            
+            if (player.isLeader()) {
+                throw new InvalidOperationException("Leader cannot submit guesses");
+            }
+            
+            if (!room.isRoundOpen(round)) {
+                if (room.getCurrentRound() == 0) {
+                    throw new InvalidOperationException("No active word to guess");
+                }
+                // If a word is set, the guess was made for an earlier round and the word has
+                // changed since; if not, the round was won and no new word is set yet
+                String message = room.getCurrentWord() != null
+                    ? "Слово уже сменилось, попробуйте угадать новое!"
+                    : "Слово уже угадано!";
+                return GuessResponse.builder()
+                    .correct(false)
+                    .message(message)
+                    .build();
+            }
+            
+            boolean isCorrect = StringSimilarity.isCorrectGuess(room.getCurrentWord(), guess);
+            
+            if (isCorrect) {
+                return handleCorrectGuess(room, player);
+            }
+            
+            return GuessResponse.builder()
+                .correct(false)
+                .message("Неправильно, попробуйте ещё раз!")
+                .build();
+        });
     }
 
     /**
@@ -87,49 +102,52 @@ public class GameRoundService {
      * @param winnerId the ID of the winning player
      * @return result of the assignment
      */
-    @Transactional
     public GuessResponse assignWinner(RoomCode roomCode, String sessionId, Long winnerId) {
-        Room room = roomService.getRoomByCode(roomCode);
-        Player leader = playerService.getPlayerBySessionId(room.getId(), sessionId)
-            .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
-        
-        if (!leader.getIsLeader()) {
-            throw new InvalidOperationException("Only leader can assign winner");
-        }
-        
-        Player winner = playerService.getPlayerById(winnerId, room.getId());
-        
-        if (winner.getIsLeader()) {
-            throw new InvalidOperationException("Cannot assign leader as winner");
-        }
-        
-        return handleCorrectGuess(room, winner);
+        return roomEngine.update(roomCode, room -> {
+            LivePlayer leader = room.findPlayerBySessionId(sessionId)
+                .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
+            
+            if (!leader.isLeader()) {
+                throw new InvalidOperationException("Only leader can assign winner");
+            }
+            
+            LivePlayer winner = room.findPlayerById(winnerId)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found"));
+            
+            if (winner.isLeader()) {
+                throw new InvalidOperationException("Cannot assign leader as winner");
+            }
+            
+            return handleCorrectGuess(room, winner);
+        });
     }
 
     /**
      * Generate a new word for the current round (leader only)
      * 
+     * The word provider is called without holding the room lock, since it may wait
+     * for an LLM; leadership is checked again before the word is stored.
+     * 
      * @param roomCode the room code
      * @param sessionId the leader's session ID
      * @return the generated word
      */
-    @Transactional
     public NewWordResponse generateNewWord(RoomCode roomCode, String sessionId) {
-        Room room = roomService.getRoomByCode(roomCode);
-        Player player = playerService.getPlayerBySessionId(room.getId(), sessionId)
-            .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
-        
-        if (!player.getIsLeader()) {
-            throw new InvalidOperationException("Only leader can generate new word");
-        }
+        WordRequest wordRequest = roomEngine.read(roomCode, room -> {
+            requireLeader(room, sessionId);
+            return new WordRequest(room.getWordProviderType(), room.getEffectiveTheme());
+        });
         
-        WordProvider wordProvider = wordProviderFactory.getProvider(room.getWordProviderType());
-        String newWord = wordProvider.generateWord(room.getEffectiveTheme());
+        WordProvider wordProvider = wordProviderFactory.getProvider(wordRequest.providerType());
+        String newWord = wordProvider.generateWord(wordRequest.theme());
         
-        room.setCurrentWord(newWord);
-        roomService.updateRoom(room);
+        roomEngine.update(roomCode, room -> {
+            requireLeader(room, sessionId);
+            room.setCurrentWord(newWord);
+            return null;
+        });
         
-        log.info("Generated new word for room {}", room.getCode());
+        log.info("Generated new word for room {}", roomCode);
         
         return NewWordResponse.builder()
             .word(newWord)
@@ -137,36 +155,32 @@ public class GameRoundService {
             .build();
     }
 
+    private void requireLeader(LiveRoom room, String sessionId) {
+        LivePlayer player = room.findPlayerBySessionId(sessionId)
+            .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
+        
+        if (!player.isLeader()) {
+            throw new InvalidOperationException("Only leader can generate new word");
+        }
+    }
+
     /**
-     * Handle a correct guess - update scores, change leader, save history
+     * Handle a correct guess - update scores, change leader, record history
      * 
-     * @param room the room
+     * @param room the room, locked by the caller
      * @param winner the player who guessed correctly
      * @return response with winner information
      */
-    private GuessResponse handleCorrectGuess(Room room, Player winner) {
-        // Save game history
-        if (room.getCurrentWord() != null) {
-            GameHistory history = GameHistory.builder()
-                .roomId(room.getId())
-                .word(room.getCurrentWord())
-                .leaderId(room.getCurrentLeaderId())
-                .winnerId(winner.getId())
-                .endTime(LocalDateTime.now())
-                .build();
-            gameHistoryRepository.save(history);
-        }
+    private GuessResponse handleCorrectGuess(LiveRoom room, LivePlayer winner) {
+        // Record the round and clear current word
+        room.completeRound(winner);
         
         // Add score to winner
-        playerService.addScore(winner.getId(), pointsPerWin);
+        room.addScore(winner, pointsPerWin);
         
         // Change leader using LeadershipService
         leadershipService.changeLeader(room, winner);
         
-        // Clear current word
-        room.setCurrentWord(null);
-        roomService.updateRoom(room);
-        
         log.info("Player {} won the round! New leader: {}", winner.getName(), winner.getName());
         
         return GuessResponse.builder()
@@ -176,5 +190,7 @@ public class GameRoundService {
             .newLeaderName(winner.getName())
             .build();
     }
-}
 
+    private record WordRequest(String providerType, String theme) {
+    }
+}
@@ -2,12 +2,15 @@ package com.crocodile.service;
 
 import com.crocodile.domain.RoomCode;
 import com.crocodile.exception.InvalidOperationException;
-import com.crocodile.model.Player;
-import com.crocodile.model.Room;
+import com.crocodile.model.RoomStatus;
+import com.crocodile.service.engine.LivePlayer;
+import com.crocodile.service.engine.LiveRoom;
+import com.crocodile.service.engine.RoomEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * LeadershipService - Black Box for Leader Management
@@ -24,8 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class LeadershipService {
 
-    private final PlayerService playerService;
-    private final RoomService roomService;
+    private final RoomEngine roomEngine;
 
     /**
      * Handle a player leaving the room, including leader transitions
@@ -33,61 +35,50 @@ public class LeadershipService {
      * @param roomCode the room code
      * @param sessionId the player's session ID
      */
-    @Transactional
     public void handlePlayerLeave(RoomCode roomCode, String sessionId) {
-        Room room = roomService.getRoomByCode(roomCode);
-        Player player = playerService.getPlayerBySessionId(room.getId(), sessionId)
-            .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
-        
-        boolean wasLeader = player.getIsLeader();
-        playerService.leaveRoom(player.getId());
-        
-        // If leader left, assign new leader
-        if (wasLeader) {
-            Player newLeader = playerService.assignNewLeader(room.getId(), player.getId());
-            if (newLeader != null) {
-                room.setCurrentLeaderId(newLeader.getId());
-                roomService.updateRoom(room);
-                log.info("New leader assigned: {}", newLeader.getName());
-            } else {
-                // No players left, mark room as inactive
-                roomService.markRoomAsInactive(room.getId());
+        roomEngine.update(roomCode, room -> {
+            LivePlayer player = room.findPlayerBySessionId(sessionId)
+                .orElseThrow(() -> new InvalidOperationException("Player not found in room"));
+            
+            boolean wasLeader = player.isLeader();
+            room.deactivatePlayer(player);
+            log.info("Player {} left the room", player.getName());
+            
+            // If leader left, assign new leader
+            if (wasLeader) {
+                Optional<LivePlayer> newLeader = room.getActivePlayers().stream().findFirst();
+                if (newLeader.isPresent()) {
+                    room.changeLeader(newLeader.get());
+                    log.info("New leader assigned: {}", newLeader.get().getName());
+                } else {
+                    log.warn("No active players to assign as leader in room");
+                }
             }
-        }
-        
-        // Check if no players left
-        long activePlayerCount = playerService.getActivePlayerCount(room.getId());
-        if (activePlayerCount == 0) {
-            roomService.markRoomAsInactive(room.getId());
-        }
+            
+            // Check if no players left
+            if (room.getActivePlayerCount() == 0) {
+                room.setStatus(RoomStatus.INACTIVE);
+                log.info("Marked room {} as inactive", room.getCode());
+            }
+            return null;
+        });
     }
 
     /**
      * Change the leader of a room (used after correct guesses)
      * 
+     * Must be called inside {@link RoomEngine#update} for the given room.
+     * 
      * @param room the room
      * @param newLeader the player to become leader
      */
-    @Transactional
-    public void changeLeader(Room room, Player newLeader) {
-        // Remove leader status from old leader
-        Player oldLeader = playerService.getActivePlayers(room.getId()).stream()
-            .filter(Player::getIsLeader)
-            .findFirst()
-            .orElse(null);
+    public void changeLeader(LiveRoom room, LivePlayer newLeader) {
+        String oldLeaderName = room.getLeader()
+            .map(LivePlayer::getName)
+            .orElse("none");
         
-        if (oldLeader != null) {
-            playerService.setLeader(oldLeader.getId(), false);
-        }
+        room.changeLeader(newLeader);
         
-        // Set new leader
-        playerService.setLeader(newLeader.getId(), true);
-        room.setCurrentLeaderId(newLeader.getId());
-        roomService.updateRoom(room);
-        
-        log.info("Leader changed from {} to {}", 
-            oldLeader != null ? oldLeader.getName() : "none", 
-            newLeader.getName());
+        log.info("Leader changed from {} to {}", oldLeaderName, newLeader.getName());
     }
 }
-
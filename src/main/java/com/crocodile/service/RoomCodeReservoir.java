@@ -0,0 +1,115 @@
+package com.crocodile.service;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.repository.RoomRepository;
+import com.crocodile.util.RoomCodeGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * RoomCodeReservoir - Room codes generated and checked for uniqueness in advance
+ *
+ * A background job keeps a queue of random codes that are not used by any room.
+ * Candidates are checked in batches with a single query, so creating a room takes
+ * a code from memory without querying the database. If the reservoir runs dry, codes
+ * are generated and checked one by one as before ("rooms.codes.fallbacks" counter).
+ *
+ * Like the room engine, the reservoir assumes a single application instance creates
+ * rooms; the unique constraint on rooms.code_packed remains the final guard.
+ *
+ * Configuration:
+ * - game.room.code-reservoir.capacity: number of codes kept ready
+ * - game.room.code-reservoir.refill-interval-ms: delay between refills
+ */
+@Component
+@Slf4j
+public class RoomCodeReservoir {
+
+    private static final String SELECT_USED_CODES_SQL =
+        "SELECT code_packed FROM rooms WHERE code_packed = ANY(?::integer[])";
+
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int codeLength;
+    private final int capacity;
+    private final BlockingQueue<RoomCode> codes;
+    private final Counter fallbacks;
+
+    public RoomCodeReservoir(RoomRepository roomRepository,
+                             JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${game.room.code-length}") int codeLength,
+                             @Value("${game.room.code-reservoir.capacity:1000}") int capacity) {
+        this.roomRepository = roomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.codeLength = codeLength;
+        this.capacity = capacity;
+        this.codes = new LinkedBlockingQueue<>(capacity);
+        this.fallbacks = Counter.builder("rooms.codes.fallbacks")
+            .description("Room codes checked on creation because the code reservoir was empty")
+            .register(meterRegistry);
+        Gauge.builder("rooms.codes.reservoir.size", codes, BlockingQueue::size)
+            .description("Unused room codes ready to be assigned")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a code that is not used by any room
+     *
+     * @return room code
+     */
+    public RoomCode take() {
+        RoomCode code = codes.poll();
+        if (code != null) {
+            return code;
+        }
+        log.warn("Room code reservoir is empty, checking a code on the request path");
+        fallbacks.increment();
+        do {
+            code = RoomCodeGenerator.generate(codeLength);
+        } while (roomRepository.existsByCode(code));
+        return code;
+    }
+
+    /**
+     * Top up the reservoir with checked codes
+     */
+    @Scheduled(fixedDelayString = "${game.room.code-reservoir.refill-interval-ms:1000}")
+    public void refill() {
+        int missing = capacity - codes.size();
+        if (missing <= 0) {
+            return;
+        }
+
+        Set<RoomCode> queued = new HashSet<>(codes);
+        Set<RoomCode> candidates = new LinkedHashSet<>();
+        while (candidates.size() < missing) {
+            RoomCode candidate = RoomCodeGenerator.generate(codeLength);
+            if (!queued.contains(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+
+        Integer[] values = candidates.stream().map(RoomCode::getPacked).toArray(Integer[]::new);
+        List<RoomCode> used = jdbcTemplate.query(SELECT_USED_CODES_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("integer", values)),
+            (rs, rowNum) -> RoomCode.ofPacked(rs.getInt(1)));
+        used.forEach(candidates::remove);
+
+        candidates.forEach(codes::offer);
+        log.debug("Added {} room codes to the reservoir ({} already used)", candidates.size(), used.size());
+    }
+}
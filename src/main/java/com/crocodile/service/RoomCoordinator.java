@@ -4,17 +4,24 @@ import com.crocodile.domain.RoomCode;
 import com.crocodile.dto.CreateRoomResponse;
 import com.crocodile.dto.JoinRoomResponse;
 import com.crocodile.dto.PlayerDto;
+import com.crocodile.dto.RoomStateJson;
 import com.crocodile.dto.RoomStateResponse;
-import com.crocodile.model.Player;
+import com.crocodile.exception.RoomNotFoundException;
 import com.crocodile.model.Room;
+import com.crocodile.model.RoomStatus;
+import com.crocodile.service.engine.LivePlayer;
+import com.crocodile.service.engine.LiveRoom;
+import com.crocodile.service.engine.RoomEngine;
+import com.crocodile.service.engine.RoomStateView;
 import com.crocodile.service.themeprovider.ThemeProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * RoomCoordinator - Room Lifecycle Management
@@ -35,6 +42,8 @@ public class RoomCoordinator {
     private final RoomService roomService;
     private final PlayerService playerService;
     private final ThemeProvider themeProvider;
+    private final RoomEngine roomEngine;
+    private final ObjectMapper objectMapper;
 
     /**
      * Create a new game room
@@ -44,13 +53,13 @@ public class RoomCoordinator {
      * @param isCustomTheme whether the theme is custom (user-entered)
      * @return room creation response with code and URL
      */
-    @Transactional
     public CreateRoomResponse createRoom(String theme, String wordProviderType, boolean isCustomTheme) {
         String customTheme = isCustomTheme ? theme : null;
         // For custom themes, store a placeholder in the standard theme field
         String standardTheme = isCustomTheme ? "Пользовательская тема" : theme;
         
         Room room = roomService.createRoom(standardTheme, wordProviderType, customTheme);
+        roomEngine.register(room);
         
         return CreateRoomResponse.builder()
             .roomCode(room.getCode().getValue())
@@ -67,57 +76,111 @@ public class RoomCoordinator {
      * @param playerName the player's name
      * @return join response with player information
      */
-    @Transactional
     public JoinRoomResponse joinRoom(RoomCode roomCode, String sessionId, String playerName) {
-        Room room = roomService.getRoomByCode(roomCode);
-        
-        long playerCount = playerService.getActivePlayerCount(room.getId());
-        boolean isFirstPlayer = playerCount == 0;
-        
-        Player player = playerService.joinRoom(room.getId(), sessionId, playerName, isFirstPlayer);
-        
-        // Set as current leader in room if first player
-        if (isFirstPlayer) {
-            room.setCurrentLeaderId(player.getId());
-            roomService.updateRoom(room);
-        }
-        
-        return JoinRoomResponse.builder()
-            .playerId(player.getId())
-            .playerName(player.getName())
-            .isLeader(player.getIsLeader())
-            .sessionId(sessionId)
-            .build();
+        return roomEngine.update(roomCode, room -> {
+            boolean isFirstPlayer = room.getActivePlayerCount() == 0;
+            
+            LivePlayer player = room.findPlayerBySessionId(sessionId).orElse(null);
+            if (player != null) {
+                room.rejoin(player, playerName);
+                log.info("Player {} rejoined room", playerName);
+            } else {
+                player = room.addPlayer(
+                    playerService.createPlayer(room.getId(), sessionId, playerName, isFirstPlayer));
+            }
+            
+            // Set as current leader in room if first player
+            if (isFirstPlayer) {
+                room.changeLeader(player);
+            }
+            
+            return JoinRoomResponse.builder()
+                .playerId(player.getId())
+                .playerName(player.getName())
+                .isLeader(player.isLeader())
+                .sessionId(sessionId)
+                .build();
+        });
     }
 
     /**
-     * Get the current state of a room
+     * Get the current state of a room serialized to JSON
+     * 
+     * Both variants of the body (with and without the current word) are built once per
+     * state version and shared by every player of the room until the next change.
      * 
      * @param roomCode the room code
      * @param sessionId the requesting player's session ID
-     * @return complete room state with players and current word (if applicable)
+     * @return serialized room state as seen by the player
      */
-    public RoomStateResponse getRoomState(RoomCode roomCode, String sessionId) {
-        Room room = roomService.getRoomByCode(roomCode);
-        List<Player> players = playerService.getActivePlayers(room.getId());
-        
-        Player currentPlayer = playerService.getPlayerBySessionId(room.getId(), sessionId)
-            .orElse(null);
-        
-        // Only show current word to the leader
-        String currentWord = null;
-        if (currentPlayer != null && currentPlayer.getIsLeader()) {
-            currentWord = room.getCurrentWord();
+    public RoomStateJson getRoomStateJson(RoomCode roomCode, String sessionId) {
+        return roomEngine.read(roomCode, room -> {
+            RoomStateView view = room.getStateView();
+            if (view == null) {
+                view = new RoomStateView(room.getStateVersion(),
+                    serialize(buildRoomState(room, false)),
+                    serialize(buildRoomState(room, true)));
+                room.setStateView(view);
+            }
+            return new RoomStateJson(view.stateVersion(), view.select(isLeader(room, sessionId)));
+        });
+    }
+
+    /**
+     * Get the current state version of a room without building its state
+     * 
+     * @param roomCode the room code
+     * @return the room state version
+     */
+    public long getStateVersion(RoomCode roomCode) {
+        return roomEngine.read(roomCode, room -> room.getStateVersion());
+    }
+
+    /**
+     * Check if a room exists and is active
+     * 
+     * @param roomCode the room code to check
+     * @return true if the room exists and is active, false otherwise
+     */
+    public boolean roomExists(RoomCode roomCode) {
+        try {
+            return roomEngine.read(roomCode, room -> room.getStatus() == RoomStatus.ACTIVE);
+        } catch (RoomNotFoundException e) {
+            return false;
         }
+    }
+
+    /**
+     * Check if a session belongs to a player of the room
+     * 
+     * @param roomCode the room code
+     * @param sessionId the session ID
+     * @return true if the session has joined the room
+     * @throws RoomNotFoundException if the room does not exist
+     */
+    public boolean isPlayerInRoom(RoomCode roomCode, String sessionId) {
+        return roomEngine.read(roomCode, room -> room.findPlayerBySessionId(sessionId).isPresent());
+    }
+
+    private boolean isLeader(LiveRoom room, String sessionId) {
+        return room.findPlayerBySessionId(sessionId)
+            .map(LivePlayer::isLeader)
+            .orElse(false);
+    }
+
+    private RoomStateResponse buildRoomState(LiveRoom room, boolean leaderView) {
+        // Only show current word to the leader
+        String currentWord = leaderView ? room.getCurrentWord() : null;
         
-        Player leader = players.stream()
-            .filter(Player::getIsLeader)
-            .findFirst()
-            .orElse(null);
-        
-        List<PlayerDto> playerDtos = players.stream()
-            .map(this::convertToPlayerDto)
-            .collect(Collectors.toList());
+        // Single pass over the roster: collect DTOs and find the leader
+        LivePlayer leader = null;
+        List<PlayerDto> playerDtos = new ArrayList<>();
+        for (LivePlayer player : room.getActivePlayers()) {
+            playerDtos.add(player.toDto());
+            if (player.isLeader() && leader == null) {
+                leader = player;
+            }
+        }
         
         return RoomStateResponse.builder()
             .roomCode(room.getCode().getValue())
@@ -128,21 +191,16 @@ public class RoomCoordinator {
             .currentLeaderName(leader != null ? leader.getName() : null)
             .players(playerDtos)
             .hasWord(room.getCurrentWord() != null)
+            .stateVersion(room.getStateVersion())
+            .round(room.getCurrentRound())
             .build();
     }
 
-    /**
-     * Check if a room exists and is active
-     * 
-     * @param roomCode the room code to check
-     * @return true if the room exists and is active, false otherwise
-     */
-    public boolean roomExists(RoomCode roomCode) {
+    private byte[] serialize(RoomStateResponse state) {
         try {
-            Room room = roomService.getRoomByCode(roomCode);
-            return room.getStatus() == com.crocodile.model.RoomStatus.ACTIVE;
-        } catch (com.crocodile.exception.RoomNotFoundException e) {
-            return false;
+            return objectMapper.writeValueAsBytes(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize state of room " + state.getRoomCode(), e);
         }
     }
 
@@ -155,21 +213,4 @@ public class RoomCoordinator {
     public List<String> getAvailableThemes() {
         return themeProvider.getAvailableThemes();
     }
-
-    /**
-     * Convert Player entity to PlayerDto
-     * 
-     * @param player the player entity
-     * @return player DTO
-     */
-    private PlayerDto convertToPlayerDto(Player player) {
-        return PlayerDto.builder()
-            .id(player.getId())
-            .name(player.getName())
-            .score(player.getScore().getValue())
-            .isLeader(player.getIsLeader())
-            .isActive(player.getIsActive())
-            .build();
-    }
 }
-
@@ -1,19 +1,21 @@
 package com.crocodile.service;
 
 import com.crocodile.domain.RoomCode;
-import com.crocodile.exception.RoomNotFoundException;
 import com.crocodile.model.Room;
 import com.crocodile.model.RoomStatus;
 import com.crocodile.repository.RoomRepository;
+import com.crocodile.service.engine.RoomActivityTracker;
+import com.crocodile.service.engine.RoomEngine;
 import com.crocodile.service.wordprovider.WordProviderFactory;
-import com.crocodile.util.RoomCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,18 +24,38 @@ import java.util.List;
 @Slf4j
 public class RoomService {
 
+    // Locks one chunk of the stalest active rooms, marks them inactive and
+    // deactivates their players in a single statement
+    private static final String DEACTIVATE_ROOMS_SQL =
+        "WITH stale AS (" +
+        "  SELECT id FROM rooms " +
+        "  WHERE status = 'ACTIVE' AND last_activity < ? AND id <> ALL(?::bigint[]) " +
+        "  ORDER BY last_activity LIMIT ? FOR UPDATE SKIP LOCKED" +
+        "), deactivated AS (" +
+        "  UPDATE rooms r SET status = 'INACTIVE', state_version = r.state_version + 1 " +
+        "  FROM stale WHERE r.id = stale.id RETURNING r.id, r.code_packed" +
+        "), players_left AS (" +
+        "  UPDATE players p SET is_active = false " +
+        "  FROM deactivated d WHERE p.room_id = d.id AND p.is_active" +
+        ") " +
+        "SELECT code_packed FROM deactivated";
+
     private final RoomRepository roomRepository;
+    private final RoomCodeReservoir roomCodeReservoir;
     private final WordProviderFactory wordProviderFactory;
-
-    @Value("${game.room.code-length}")
-    private int codeLength;
+    private final RoomEngine roomEngine;
+    private final RoomActivityTracker roomActivityTracker;
+    private final JdbcTemplate jdbcTemplate;
 
     @Value("${game.room.inactive-timeout-minutes}")
     private int inactiveTimeoutMinutes;
 
+    @Value("${game.room.cleanup-batch-size:500}")
+    private int cleanupBatchSize;
+
     @Transactional
     public Room createRoom(String theme, String wordProviderType, String customTheme) {
-        RoomCode code = generateUniqueCode();
+        RoomCode code = roomCodeReservoir.take();
         
         // Validate word provider exists
         wordProviderFactory.getProvider(wordProviderType);
@@ -53,46 +75,38 @@ public class RoomService {
         return savedRoom;
     }
 
-    public Room getRoomByCode(RoomCode code) {
-        return roomRepository.findByCode(code)
-            .orElseThrow(() -> new RoomNotFoundException("Room not found: " + code));
-    }
-
-    @Transactional
-    public Room updateRoom(Room room) {
-        return roomRepository.save(room);
-    }
-
-    @Transactional
-    public void markRoomAsInactive(Long roomId) {
-        roomRepository.findById(roomId).ifPresent(room -> {
-            room.setStatus(RoomStatus.INACTIVE);
-            roomRepository.save(room);
-            log.info("Marked room {} as inactive", room.getCode());
-        });
-    }
-
+    /**
+     * Mark rooms without activity for longer than the configured timeout as inactive
+     * 
+     * Pending activity is recorded first, so rooms that were only read recently are kept.
+     * Rooms are deactivated in chunks of set-based statements, each in its own short
+     * transaction, so the job never holds many row locks or loads room entities.
+     * Rooms with unflushed changes in the engine are skipped, since their last activity
+     * is not persisted yet. The state version of deactivated rooms is bumped, so an engine
+     * copy that changes concurrently is discarded on its next flush instead of
+     * overwriting the new status.
+     */
     @Scheduled(fixedRate = 300000) // Run every 5 minutes
-    @Transactional
     public void cleanupInactiveRooms() {
-        LocalDateTime threshold = LocalDateTime.now().minusMinutes(inactiveTimeoutMinutes);
-        List<Room> inactiveRooms = roomRepository.findByStatusAndLastActivityBefore(
-            RoomStatus.ACTIVE, threshold
-        );
+        roomActivityTracker.flush();
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusMinutes(inactiveTimeoutMinutes));
+        Long[] dirtyRoomIds = roomEngine.getDirtyRoomIds().toArray(Long[]::new);
         
-        inactiveRooms.forEach(room -> {
-            room.setStatus(RoomStatus.INACTIVE);
-            roomRepository.save(room);
-            log.info("Auto-marked room {} as inactive due to inactivity", room.getCode());
-        });
-    }
-
-    private RoomCode generateUniqueCode() {
-        RoomCode code;
+        int total = 0;
+        List<RoomCode> codes;
         do {
-            code = RoomCodeGenerator.generate(codeLength);
-        } while (roomRepository.existsByCode(code));
-        return code;
+            codes = jdbcTemplate.query(DEACTIVATE_ROOMS_SQL, ps -> {
+                ps.setTimestamp(1, threshold);
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", dirtyRoomIds));
+                ps.setInt(3, cleanupBatchSize);
+            }, (rs, rowNum) -> RoomCode.ofPacked(rs.getInt(1)));
+            codes.forEach(roomEngine::evict);
+            total += codes.size();
+        } while (codes.size() == cleanupBatchSize);
+        
+        if (total > 0) {
+            log.info("Auto-marked {} rooms as inactive due to inactivity", total);
+        }
     }
 }
 
@@ -0,0 +1,17 @@
+package com.crocodile.service.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completed round to be recorded in game_history
+ *
+ * @param roomId the room ID
+ * @param word the guessed word
+ * @param leaderId the leader who showed the word
+ * @param winnerId the player who guessed it
+ * @param startTime when the word was set
+ * @param endTime when the round was won
+ */
+public record CompletedRound(Long roomId, String word, Long leaderId, Long winnerId,
+                             LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,150 @@
+package com.crocodile.service.engine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.crocodile.service.engine.PgArrays.setArray;
+import static com.crocodile.service.engine.PgArrays.toTimestamp;
+
+/**
+ * GameHistoryWriter - Asynchronous batched persistence of completed rounds
+ * 
+ * Completed rounds are put on a bounded in-memory queue and written to game_history
+ * in multi-row inserts, either when a full batch is waiting or on a fixed interval.
+ * Nothing on the request path reads history back, so rounds never wait for the database.
+ * 
+ * Backpressure: when the queue is full the submitting thread writes a batch itself
+ * (caller-runs, like the word pool executor) and the "rooms.history.caller_flushes"
+ * counter is incremented; "rooms.history.queue.size" shows the current backlog.
+ * The queue is drained on shutdown.
+ * 
+ * Configuration:
+ * - game.engine.history.queue-capacity: maximum number of queued rounds
+ * - game.engine.history.batch-size: rounds written per insert
+ * - game.engine.history.flush-interval-ms: delay between time-triggered flushes
+ */
+@Component
+@Slf4j
+public class GameHistoryWriter {
+
+    private static final String INSERT_HISTORY_SQL =
+        "INSERT INTO game_history (room_id, word, leader_id, winner_id, start_time, end_time) " +
+        "SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[], ?::timestamp[], ?::timestamp[])";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor historyTaskExecutor;
+    private final BlockingQueue<CompletedRound> queue;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter callerFlushes;
+    private final Counter droppedRounds;
+
+    public GameHistoryWriter(JdbcTemplate jdbcTemplate,
+                             @Qualifier("historyTaskExecutor") Executor historyTaskExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${game.engine.history.queue-capacity:10000}") int queueCapacity,
+                             @Value("${game.engine.history.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyTaskExecutor = historyTaskExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.callerFlushes = Counter.builder("rooms.history.caller_flushes")
+            .description("Batches written by the submitting thread because the history queue was full")
+            .register(meterRegistry);
+        this.droppedRounds = Counter.builder("rooms.history.dropped")
+            .description("Completed rounds dropped because the history queue was full and could not be written")
+            .register(meterRegistry);
+        Gauge.builder("rooms.history.queue.size", queue, BlockingQueue::size)
+            .description("Completed rounds waiting to be written to game_history")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue completed rounds for writing
+     * 
+     * @param rounds the rounds
+     */
+    public void submit(List<CompletedRound> rounds) {
+        for (CompletedRound round : rounds) {
+            while (!queue.offer(round)) {
+                log.warn("Game history queue is full, writing a batch in the caller thread");
+                callerFlushes.increment();
+                if (writeBatch() == 0) {
+                    log.error("Dropping round of room {}: game history cannot be written", round.roomId());
+                    droppedRounds.increment();
+                    break;
+                }
+            }
+        }
+        if (queue.size() >= batchSize) {
+            historyTaskExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Write all queued rounds in batches
+     */
+    @Scheduled(fixedDelayString = "${game.engine.history.flush-interval-ms:1000}")
+    public void flush() {
+        while (!queue.isEmpty()) {
+            if (writeBatch() == 0) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Writing {} queued rounds before shutdown", queue.size());
+        flush();
+    }
+
+    private int writeBatch() {
+        flushLock.lock();
+        try {
+            List<CompletedRound> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                insert(batch);
+                log.debug("Wrote {} rounds to game history", batch.size());
+                return batch.size();
+            } catch (RuntimeException e) {
+                int requeued = (int) batch.stream().filter(queue::offer).count();
+                log.error("Failed to write {} rounds to game history, requeued {}: {}",
+                    batch.size(), requeued, e.getMessage(), e);
+                return 0;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void insert(List<CompletedRound> rounds) {
+        jdbcTemplate.update(INSERT_HISTORY_SQL, ps -> {
+            setArray(ps, 1, "bigint", rounds, CompletedRound::roomId);
+            setArray(ps, 2, "varchar", rounds, CompletedRound::word);
+            setArray(ps, 3, "bigint", rounds, CompletedRound::leaderId);
+            setArray(ps, 4, "bigint", rounds, CompletedRound::winnerId);
+            setArray(ps, 5, "timestamp", rounds, round -> toTimestamp(round.startTime()));
+            setArray(ps, 6, "timestamp", rounds, round -> toTimestamp(round.endTime()));
+        });
+    }
+}
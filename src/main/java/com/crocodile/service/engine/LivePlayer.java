@@ -0,0 +1,108 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.dto.PlayerDto;
+import com.crocodile.model.Player;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * LivePlayer - In-memory state of a player held by {@link LiveRoom}
+ * 
+ * Mutated only through {@link LiveRoom} while the room is locked by {@link RoomEngine}.
+ */
+@Getter
+public class LivePlayer {
+
+    private final Long id;
+    private final String sessionId;
+    private String name;
+    private int score;
+    private boolean leader;
+    private boolean active;
+
+    @Getter(AccessLevel.NONE)
+    private boolean dirty;
+
+    LivePlayer(Long id, String sessionId, String name, int score, boolean leader, boolean active) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.name = name;
+        this.score = score;
+        this.leader = leader;
+        this.active = active;
+    }
+
+    /**
+     * Create live state from a persisted player
+     * 
+     * @param player the player entity
+     * @return live player
+     */
+    static LivePlayer from(Player player) {
+        return new LivePlayer(
+            player.getId(),
+            player.getSessionId(),
+            player.getName(),
+            player.getScore().getValue(),
+            player.getIsLeader(),
+            player.getIsActive()
+        );
+    }
+
+    /**
+     * Convert to the DTO exposed in room state
+     * 
+     * @return player DTO
+     */
+    public PlayerDto toDto() {
+        return PlayerDto.builder()
+            .id(id)
+            .name(name)
+            .score(score)
+            .isLeader(leader)
+            .isActive(active)
+            .build();
+    }
+
+    void setName(String name) {
+        this.name = name;
+        this.dirty = true;
+    }
+
+    void addScore(int points) {
+        this.score += points;
+        this.dirty = true;
+    }
+
+    void setLeader(boolean leader) {
+        if (this.leader != leader) {
+            this.leader = leader;
+            this.dirty = true;
+        }
+    }
+
+    void setActive(boolean active) {
+        if (this.active != active) {
+            this.active = active;
+            this.dirty = true;
+        }
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Capture the persisted columns and clear the dirty flag
+     * 
+     * @return player row for the write-behind flush
+     */
+    RoomSnapshot.PlayerRow drain() {
+        dirty = false;
+        return new RoomSnapshot.PlayerRow(id, name, score, leader, active);
+    }
+}
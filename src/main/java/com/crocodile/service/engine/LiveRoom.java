@@ -0,0 +1,349 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.model.Player;
+import com.crocodile.model.Room;
+import com.crocodile.model.RoomStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LiveRoom - Authoritative in-memory state of an active room
+ * 
+ * Holds the room row, the full player roster (including inactive players, so a
+ * returning session is recognized) and rounds completed by the current mutation.
+ * All methods must be called while the room is locked by {@link RoomEngine};
+ * mutations are tracked and written to the database by the write-behind flush.
+ */
+public class LiveRoom {
+
+    @Getter
+    private final Long id;
+    @Getter
+    private final RoomCode code;
+    @Getter
+    private final String theme;
+    @Getter
+    private final String customTheme;
+    @Getter
+    private final String wordProviderType;
+    @Getter
+    private RoomStatus status;
+    @Getter
+    private String currentWord;
+    @Getter
+    private Long currentLeaderId;
+    @Getter
+    private long stateVersion;
+    // State version of the stored row - the loaded version or the last one flushed
+    private long persistedVersion;
+    // Incremented whenever a new word is set, identifies the round a guess was made for
+    @Getter
+    private long currentRound;
+
+    private LocalDateTime roundStartedAt;
+
+    // Ordered by player ID, i.e. by join order
+    private final Map<Long, LivePlayer> players = new LinkedHashMap<>();
+    private final Map<String, LivePlayer> playersBySession = new HashMap<>();
+    private final List<CompletedRound> completedRounds = new ArrayList<>();
+
+    private boolean changed;
+    private boolean dirty;
+    private boolean evicted;
+    private RoomStateView stateView;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    private LiveRoom(Room room) {
+        this.id = room.getId();
+        this.code = room.getCode();
+        this.theme = room.getTheme();
+        this.customTheme = room.getCustomTheme();
+        this.wordProviderType = room.getWordProviderType();
+        this.status = room.getStatus();
+        this.currentWord = room.getCurrentWord();
+        this.currentLeaderId = room.getCurrentLeaderId();
+        this.stateVersion = room.getStateVersion() == null ? 0L : room.getStateVersion();
+        this.persistedVersion = stateVersion;
+        this.currentRound = room.getCurrentRound() == null ? 0L : room.getCurrentRound();
+    }
+
+    /**
+     * Create live state from a room row and its players
+     * 
+     * @param room the room entity
+     * @param roster all players of the room ordered by ID
+     * @return live room
+     */
+    static LiveRoom from(Room room, List<LivePlayer> roster) {
+        LiveRoom liveRoom = new LiveRoom(room);
+        roster.forEach(liveRoom::register);
+        return liveRoom;
+    }
+
+    /**
+     * Get the effective theme for word generation
+     * 
+     * @return customTheme if set, otherwise theme
+     */
+    public String getEffectiveTheme() {
+        return customTheme != null ? customTheme : theme;
+    }
+
+    public Optional<LivePlayer> findPlayerBySessionId(String sessionId) {
+        return Optional.ofNullable(playersBySession.get(sessionId));
+    }
+
+    public Optional<LivePlayer> findPlayerById(Long playerId) {
+        return Optional.ofNullable(players.get(playerId));
+    }
+
+    /**
+     * Get active players in join order
+     * 
+     * @return active players
+     */
+    public List<LivePlayer> getActivePlayers() {
+        return players.values().stream()
+            .filter(LivePlayer::isActive)
+            .toList();
+    }
+
+    public long getActivePlayerCount() {
+        return players.values().stream()
+            .filter(LivePlayer::isActive)
+            .count();
+    }
+
+    /**
+     * Get the active leader, if any
+     * 
+     * @return the leader
+     */
+    public Optional<LivePlayer> getLeader() {
+        return players.values().stream()
+            .filter(p -> p.isActive() && p.isLeader())
+            .findFirst();
+    }
+
+    // ==================== Mutations ====================
+
+    /**
+     * Add a freshly persisted player to the roster
+     * 
+     * @param player the saved player entity
+     * @return live player
+     */
+    public LivePlayer addPlayer(Player player) {
+        LivePlayer livePlayer = LivePlayer.from(player);
+        register(livePlayer);
+        changed = true;
+        return livePlayer;
+    }
+
+    /**
+     * Reactivate a returning player under a possibly new name
+     * 
+     * @param player the player
+     * @param name the new name
+     */
+    public void rejoin(LivePlayer player, String name) {
+        player.setName(name);
+        player.setActive(true);
+        changed = true;
+    }
+
+    public void deactivatePlayer(LivePlayer player) {
+        player.setActive(false);
+        changed = true;
+    }
+
+    public void addScore(LivePlayer player, int points) {
+        player.addScore(points);
+        changed = true;
+    }
+
+    /**
+     * Make the given player the only leader of the room
+     * 
+     * @param newLeader the new leader
+     */
+    public void changeLeader(LivePlayer newLeader) {
+        players.values().forEach(p -> p.setLeader(p == newLeader));
+        currentLeaderId = newLeader.getId();
+        changed = true;
+    }
+
+    /**
+     * Set the word of the current round; a new word starts a new round
+     * 
+     * @param word the new word or null to clear it
+     */
+    public void setCurrentWord(String word) {
+        currentWord = word;
+        if (word != null) {
+            currentRound++;
+            roundStartedAt = LocalDateTime.now();
+        } else {
+            roundStartedAt = null;
+        }
+        changed = true;
+    }
+
+    /**
+     * Check whether a guess made for the given round can still win
+     * 
+     * @param round the round the guess was made for, or null if unknown
+     * @return true if a word is set and the round is still the current one
+     */
+    public boolean isRoundOpen(Long round) {
+        return currentWord != null && (round == null || round == currentRound);
+    }
+
+    /**
+     * Record the current round as won by the given player and clear the word
+     * 
+     * @param winner the winner
+     */
+    public void completeRound(LivePlayer winner) {
+        if (currentWord != null && currentLeaderId != null) {
+            LocalDateTime now = LocalDateTime.now();
+            completedRounds.add(new CompletedRound(
+                id, currentWord, currentLeaderId, winner.getId(),
+                roundStartedAt != null ? roundStartedAt : now, now));
+        }
+        setCurrentWord(null);
+    }
+
+    public void setStatus(RoomStatus status) {
+        if (this.status != status) {
+            this.status = status;
+            changed = true;
+        }
+    }
+
+    // ==================== Serialized state ====================
+
+    /**
+     * Get the cached serialized state if it is still current
+     * 
+     * @return the view built for the current state version, or null
+     */
+    public RoomStateView getStateView() {
+        return stateView != null && stateView.stateVersion() == stateVersion ? stateView : null;
+    }
+
+    /**
+     * Cache the serialized state of the current state version
+     * 
+     * @param stateView the view
+     */
+    public void setStateView(RoomStateView stateView) {
+        this.stateView = stateView;
+    }
+
+    // ==================== Engine bookkeeping ====================
+
+    /**
+     * Finish a mutation: bump the state version if anything changed
+     * 
+     * @return the new state version, or -1 if nothing changed
+     */
+    long commitChanges() {
+        if (!changed) {
+            return -1;
+        }
+        changed = false;
+        dirty = true;
+        return ++stateVersion;
+    }
+
+    /**
+     * Capture unflushed changes and clear the dirty flags
+     * 
+     * @return snapshot, or null if nothing needs to be written
+     */
+    RoomSnapshot drainChanges() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        
+        List<RoomSnapshot.PlayerRow> changedPlayers = players.values().stream()
+            .filter(LivePlayer::isDirty)
+            .map(LivePlayer::drain)
+            .toList();
+        
+        RoomSnapshot snapshot = new RoomSnapshot(id, status, currentWord, currentLeaderId, currentRound,
+            stateVersion, persistedVersion, changedPlayers);
+        persistedVersion = stateVersion;
+        return snapshot;
+    }
+
+    /**
+     * Put back changes of a snapshot whose flush failed
+     * 
+     * @param snapshot the snapshot that was not written
+     */
+    void restoreChanges(RoomSnapshot snapshot) {
+        dirty = true;
+        persistedVersion = snapshot.baseVersion();
+        snapshot.players().forEach(row -> findPlayerById(row.id()).ifPresent(LivePlayer::markDirty));
+    }
+
+    /**
+     * Hand over rounds completed by the last mutation
+     * 
+     * @return completed rounds, possibly empty
+     */
+    List<CompletedRound> takeCompletedRounds() {
+        if (completedRounds.isEmpty()) {
+            return List.of();
+        }
+        List<CompletedRound> rounds = List.copyOf(completedRounds);
+        completedRounds.clear();
+        return rounds;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void markEvicted() {
+        evicted = true;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    private void register(LivePlayer player) {
+        players.put(player.getId(), player);
+        playersBySession.put(player.getSessionId(), player);
+    }
+}
@@ -0,0 +1,38 @@
+package com.crocodile.service.engine;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for binding columns of many rows as PostgreSQL arrays (expanded with unnest)
+ */
+final class PgArrays {
+
+    private PgArrays() {
+    }
+
+    /**
+     * Bind one column of all rows as an array parameter
+     *
+     * @param ps the statement
+     * @param index parameter index
+     * @param sqlType PostgreSQL element type name
+     * @param rows the rows
+     * @param column extracts the column value of a row
+     */
+    static <T> void setArray(PreparedStatement ps, int index, String sqlType,
+                             List<T> rows, Function<T, Object> column) throws SQLException {
+        Object[] values = rows.stream().map(column).toArray();
+        Array array = ps.getConnection().createArrayOf(sqlType, values);
+        ps.setArray(index, array);
+    }
+
+    static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -0,0 +1,84 @@
+package com.crocodile.service.engine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.crocodile.service.engine.PgArrays.setArray;
+
+/**
+ * RoomActivityTracker - Coalesced persistence of rooms.last_activity
+ *
+ * Every room interaction handled by the {@link RoomEngine}, reads included, records
+ * a touch in memory; repeated touches of a room collapse into its latest one.
+ * The touches are written in a single statement on a coarse interval, so state
+ * changes no longer rewrite last_activity and polling still counts as activity.
+ * last_activity is only moved forward, never back.
+ *
+ * Configuration:
+ * - game.engine.activity.flush-interval-ms: delay between activity flushes
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomActivityTracker {
+
+    private static final String UPDATE_ACTIVITY_SQL =
+        "UPDATE rooms r SET last_activity = v.last_activity " +
+        "FROM unnest(?::bigint[], ?::timestamp[]) AS v(id, last_activity) " +
+        "WHERE r.id = v.id AND (r.last_activity IS NULL OR r.last_activity < v.last_activity)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Long> lastTouches = new ConcurrentHashMap<>();
+
+    /**
+     * Record an interaction with a room
+     *
+     * @param roomId the room ID
+     */
+    public void touch(Long roomId) {
+        lastTouches.merge(roomId, System.currentTimeMillis(), Math::max);
+    }
+
+    /**
+     * Write recorded touches to the database
+     */
+    @Scheduled(fixedDelayString = "${game.engine.activity.flush-interval-ms:30000}")
+    public void flush() {
+        List<Map.Entry<Long, Long>> touches = new ArrayList<>();
+        for (Long roomId : lastTouches.keySet()) {
+            Long touchedAt = lastTouches.remove(roomId);
+            if (touchedAt != null) {
+                touches.add(Map.entry(roomId, touchedAt));
+            }
+        }
+        if (touches.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(UPDATE_ACTIVITY_SQL, ps -> {
+                setArray(ps, 1, "bigint", touches, Map.Entry::getKey);
+                setArray(ps, 2, "timestamp", touches, touch -> new Timestamp(touch.getValue()));
+            });
+            log.debug("Recorded activity of {} rooms", touches.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to record activity of {} rooms, will retry: {}", touches.size(), e.getMessage(), e);
+            touches.forEach(touch -> lastTouches.merge(touch.getKey(), touch.getValue(), Math::max));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
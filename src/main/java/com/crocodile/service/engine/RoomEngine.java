@@ -0,0 +1,360 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.exception.RoomNotFoundException;
+import com.crocodile.model.Room;
+import com.crocodile.service.realtime.RoomChangeNotifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * RoomEngine - In-memory authoritative state of active rooms
+ * 
+ * Rooms are loaded from the database on first access and then served from memory.
+ * Every read or mutation runs while holding the lock of the room's {@link LiveRoom},
+ * so operations on the same room are serialized and different rooms never contend.
+ * The lock is a {@link ReentrantLock} rather than a monitor, so a virtual thread that
+ * blocks under it (e.g. on the player insert of a join) does not pin its carrier thread.
+ * 
+ * Writes are versioned by state_version: a flush only overwrites a room row that is
+ * still at the version the engine loaded or last flushed, and a room whose row changed
+ * behind the engine (e.g. marked inactive by the cleanup job) is discarded from memory
+ * and reloaded on next access.
+ * Changed rooms are written back to the database by a scheduled write-behind flush;
+ * the database is behind memory by at most one flush interval (plus the duration of a
+ * flush). Scheduled jobs run on a pool of spring.task.scheduling.pool.size threads, so
+ * other jobs do not hold up the flush. Every read and mutation
+ * counts as room activity and is recorded by the {@link RoomActivityTracker}.
+ * 
+ * The engine assumes a single application instance owns the rooms.
+ * 
+ * The set of live rooms doubles as the room lookup cache: it is keyed by {@link RoomCode},
+ * expires idle rooms and is bounded by the number of rooms. Lookups are counted in the
+ * "rooms.engine.lookups" meter (tag result=hit|miss).
+ * 
+ * Configuration:
+ * - game.engine.flush-interval-ms: delay between write-behind flushes
+ * - game.engine.idle-eviction-minutes: unused rooms are dropped from memory after this time
+ * - game.engine.max-rooms: least recently used rooms are dropped when more rooms are held
+ */
+@Component
+@Slf4j
+public class RoomEngine {
+
+    private final RoomStateReader roomStateReader;
+    private final RoomStateWriter roomStateWriter;
+    private final GameHistoryWriter gameHistoryWriter;
+    private final RoomChangeNotifier roomChangeNotifier;
+    private final RoomActivityTracker roomActivityTracker;
+    private final long idleEvictionMillis;
+    private final int maxRooms;
+    private final Counter lookupHits;
+    private final Counter lookupMisses;
+
+    private final ConcurrentHashMap<RoomCode, LiveRoom> rooms = new ConcurrentHashMap<>();
+    private final Set<LiveRoom> dirtyRooms = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public RoomEngine(RoomStateReader roomStateReader,
+                      RoomStateWriter roomStateWriter,
+                      GameHistoryWriter gameHistoryWriter,
+                      RoomChangeNotifier roomChangeNotifier,
+                      RoomActivityTracker roomActivityTracker,
+                      MeterRegistry meterRegistry,
+                      @Value("${game.engine.idle-eviction-minutes:10}") long idleEvictionMinutes,
+                      @Value("${game.engine.max-rooms:10000}") int maxRooms) {
+        this.roomStateReader = roomStateReader;
+        this.roomStateWriter = roomStateWriter;
+        this.gameHistoryWriter = gameHistoryWriter;
+        this.roomChangeNotifier = roomChangeNotifier;
+        this.roomActivityTracker = roomActivityTracker;
+        this.idleEvictionMillis = Duration.ofMinutes(idleEvictionMinutes).toMillis();
+        this.maxRooms = maxRooms;
+        this.lookupHits = Counter.builder("rooms.engine.lookups")
+            .description("Room lookups served from memory or loaded from the database")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.lookupMisses = Counter.builder("rooms.engine.lookups")
+            .description("Room lookups served from memory or loaded from the database")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("rooms.engine.live", rooms, Map::size)
+            .description("Rooms held in memory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Register a newly created room so the first join does not hit the database
+     * 
+     * @param room the saved room entity
+     */
+    public void register(Room room) {
+        rooms.putIfAbsent(room.getCode(), LiveRoom.from(room, List.of()));
+    }
+
+    /**
+     * Read room state while holding the room lock
+     * 
+     * @param roomCode the room code
+     * @param reader function extracting the result; must not keep references to mutable state
+     * @return the reader's result
+     * @throws RoomNotFoundException if the room does not exist
+     */
+    public <T> T read(RoomCode roomCode, Function<LiveRoom, T> reader) {
+        LiveRoom room = getOrLoad(roomCode);
+        room.lock();
+        try {
+            room.touch();
+            roomActivityTracker.touch(room.getId());
+            return reader.apply(room);
+        } finally {
+            room.unlock();
+        }
+    }
+
+    /**
+     * Mutate room state while holding the room lock
+     * 
+     * If the mutation changed the room, its state version is bumped, the room is
+     * scheduled for the next flush and a state change event is published.
+     * Rounds completed by the mutation are handed to the {@link GameHistoryWriter}.
+     * 
+     * @param roomCode the room code
+     * @param mutation function applying the change
+     * @return the mutation's result
+     * @throws RoomNotFoundException if the room does not exist
+     */
+    public <T> T update(RoomCode roomCode, Function<LiveRoom, T> mutation) {
+        while (true) {
+            LiveRoom room = getOrLoad(roomCode);
+            T result;
+            long newVersion;
+            List<CompletedRound> completedRounds;
+            room.lock();
+            try {
+                if (room.isEvicted()) {
+                    // Lost a race with eviction - retry with a freshly loaded instance
+                    continue;
+                }
+                room.touch();
+                roomActivityTracker.touch(room.getId());
+                try {
+                    result = mutation.apply(room);
+                } finally {
+                    newVersion = room.commitChanges();
+                    if (newVersion >= 0) {
+                        dirtyRooms.add(room);
+                    }
+                    completedRounds = room.takeCompletedRounds();
+                }
+            } finally {
+                room.unlock();
+            }
+            if (!completedRounds.isEmpty()) {
+                gameHistoryWriter.submit(completedRounds);
+            }
+            if (newVersion >= 0) {
+                roomChangeNotifier.roomChanged(roomCode, newVersion);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Drop a room from memory unless it has unflushed changes
+     * 
+     * @param roomCode the room code
+     * @return true if the room is no longer held in memory
+     */
+    public boolean evict(RoomCode roomCode) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room == null) {
+            return true;
+        }
+        room.lock();
+        try {
+            if (room.isDirty()) {
+                return false;
+            }
+            room.markEvicted();
+            rooms.remove(roomCode, room);
+            return true;
+        } finally {
+            room.unlock();
+        }
+    }
+
+    /**
+     * Write changed rooms to the database and evict idle ones
+     */
+    @Scheduled(fixedDelayString = "${game.engine.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushDirtyRooms();
+            evictIdleRooms();
+            evictOverflowRooms();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing {} dirty rooms before shutdown", dirtyRooms.size());
+        flush();
+    }
+
+    /**
+     * Get IDs of rooms with changes not yet written to the database
+     *
+     * @return IDs of dirty rooms
+     */
+    public Set<Long> getDirtyRoomIds() {
+        Set<Long> ids = new HashSet<>();
+        dirtyRooms.forEach(room -> ids.add(room.getId()));
+        return ids;
+    }
+
+    /**
+     * Get the number of rooms held in memory
+     * 
+     * @return number of live rooms
+     */
+    public int getLiveRoomCount() {
+        return rooms.size();
+    }
+
+    private LiveRoom getOrLoad(RoomCode roomCode) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room != null) {
+            lookupHits.increment();
+            return room;
+        }
+        lookupMisses.increment();
+        // Loaded outside the map: computeIfAbsent would hold the bin lock during the query
+        // and block other rooms of the same bin. Of two concurrent loads the first stored
+        // instance wins; should it be older than the row, the next flush reports a conflict
+        LiveRoom loaded = load(roomCode);
+        LiveRoom existing = rooms.putIfAbsent(roomCode, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private LiveRoom load(RoomCode roomCode) {
+        LiveRoom liveRoom = roomStateReader.read(roomCode)
+            .orElseThrow(() -> new RoomNotFoundException("Room not found: " + roomCode));
+        log.debug("Loaded room {} into memory", roomCode);
+        return liveRoom;
+    }
+
+    private void flushDirtyRooms() {
+        List<LiveRoom> flushedRooms = new ArrayList<>();
+        List<RoomSnapshot> snapshots = new ArrayList<>();
+        
+        Iterator<LiveRoom> iterator = dirtyRooms.iterator();
+        while (iterator.hasNext()) {
+            LiveRoom room = iterator.next();
+            iterator.remove();
+            room.lock();
+            try {
+                RoomSnapshot snapshot = room.drainChanges();
+                if (snapshot != null) {
+                    flushedRooms.add(room);
+                    snapshots.add(snapshot);
+                }
+            } finally {
+                room.unlock();
+            }
+        }
+        
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> conflictedRoomIds;
+        try {
+            conflictedRoomIds = roomStateWriter.write(snapshots);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} rooms, will retry: {}", snapshots.size(), e.getMessage(), e);
+            for (int i = 0; i < flushedRooms.size(); i++) {
+                LiveRoom room = flushedRooms.get(i);
+                room.lock();
+                try {
+                    room.restoreChanges(snapshots.get(i));
+                } finally {
+                    room.unlock();
+                }
+                dirtyRooms.add(room);
+            }
+            return;
+        }
+        
+        for (LiveRoom room : flushedRooms) {
+            if (conflictedRoomIds.contains(room.getId())) {
+                discard(room);
+            }
+        }
+    }
+
+    /**
+     * Drop a room whose database row was changed outside the engine; the next access
+     * reloads the stored state
+     */
+    private void discard(LiveRoom room) {
+        log.warn("Room {} was modified outside the engine, discarding in-memory state", room.getCode());
+        room.lock();
+        try {
+            room.markEvicted();
+            rooms.remove(room.getCode(), room);
+        } finally {
+            room.unlock();
+        }
+    }
+
+    private void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((roomCode, room) -> {
+            if (now - room.getLastAccessMillis() > idleEvictionMillis) {
+                evict(roomCode);
+            }
+        });
+    }
+
+    private void evictOverflowRooms() {
+        int overflow = rooms.size() - maxRooms;
+        if (overflow <= 0) {
+            return;
+        }
+        List<Map.Entry<RoomCode, LiveRoom>> leastRecentlyUsed = new ArrayList<>(rooms.entrySet());
+        leastRecentlyUsed.sort(Comparator.comparingLong(entry -> entry.getValue().getLastAccessMillis()));
+        
+        int evicted = 0;
+        for (Map.Entry<RoomCode, LiveRoom> entry : leastRecentlyUsed) {
+            if (evicted >= overflow) {
+                break;
+            }
+            if (rooms.get(entry.getKey()) == entry.getValue() && evict(entry.getKey())) {
+                evicted++;
+            }
+        }
+        log.info("Evicted {} least recently used rooms, {} rooms held in memory", evicted, rooms.size());
+    }
+}
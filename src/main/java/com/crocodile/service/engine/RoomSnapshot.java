@@ -0,0 +1,39 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.model.RoomStatus;
+
+import java.util.List;
+
+/**
+ * RoomSnapshot - Changes of one room captured for a write-behind flush
+ * 
+ * Room and player rows carry absolute column values, so writing the same snapshot
+ * twice is harmless.
+ *
+ * @param roomId the room ID
+ * @param status room status
+ * @param currentWord current word or null
+ * @param currentLeaderId current leader ID or null
+ * @param currentRound current round number
+ * @param stateVersion room state version
+ * @param baseVersion state version of the stored row the changes are based on,
+ *                    i.e. the version the room was loaded with or last flushed at
+ * @param players changed players
+ */
+public record RoomSnapshot(
+    Long roomId,
+    RoomStatus status,
+    String currentWord,
+    Long currentLeaderId,
+    long currentRound,
+    long stateVersion,
+    long baseVersion,
+    List<PlayerRow> players
+) {
+
+    /**
+     * Persisted columns of a changed player
+     */
+    public record PlayerRow(Long id, String name, int score, boolean leader, boolean active) {
+    }
+}
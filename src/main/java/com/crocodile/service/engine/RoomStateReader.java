@@ -0,0 +1,85 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.model.Room;
+import com.crocodile.model.RoomStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RoomStateReader - Loads a room and its roster in one query
+ * 
+ * Counterpart of {@link RoomStateWriter}: reads rows directly with JDBC, so no
+ * managed entities are created and nothing is dirty-checked.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomStateReader {
+
+    private static final String SELECT_ROOM_WITH_PLAYERS_SQL =
+        "SELECT r.id, r.theme, r.custom_theme, r.word_provider_type, r.status, r.current_word, " +
+        "r.current_leader_id, r.current_round, r.state_version, " +
+        "p.id AS player_id, p.session_id, p.name, p.score, p.is_leader, p.is_active " +
+        "FROM rooms r LEFT JOIN players p ON p.room_id = r.id " +
+        "WHERE r.code_packed = ? " +
+        "ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Load live state of a room
+     * 
+     * @param roomCode the room code
+     * @return live room with all players ordered by ID, or empty if the room does not exist
+     */
+    public Optional<LiveRoom> read(RoomCode roomCode) {
+        return jdbcTemplate.query(SELECT_ROOM_WITH_PLAYERS_SQL, rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            Room room = mapRoom(rs, roomCode);
+            List<LivePlayer> roster = new ArrayList<>();
+            do {
+                long playerId = rs.getLong("player_id");
+                if (!rs.wasNull()) {
+                    roster.add(mapPlayer(rs, playerId));
+                }
+            } while (rs.next());
+            return Optional.of(LiveRoom.from(room, roster));
+        }, roomCode.getPacked());
+    }
+
+    private Room mapRoom(ResultSet rs, RoomCode roomCode) throws SQLException {
+        return Room.builder()
+            .id(rs.getLong("id"))
+            .code(roomCode)
+            .theme(rs.getString("theme"))
+            .customTheme(rs.getString("custom_theme"))
+            .wordProviderType(rs.getString("word_provider_type"))
+            .status(RoomStatus.valueOf(rs.getString("status")))
+            .currentWord(rs.getString("current_word"))
+            .currentLeaderId(rs.getObject("current_leader_id", Long.class))
+            .currentRound(rs.getLong("current_round"))
+            .stateVersion(rs.getLong("state_version"))
+            .build();
+    }
+
+    private LivePlayer mapPlayer(ResultSet rs, long playerId) throws SQLException {
+        return new LivePlayer(
+            playerId,
+            rs.getString("session_id"),
+            rs.getString("name"),
+            rs.getInt("score"),
+            rs.getBoolean("is_leader"),
+            rs.getBoolean("is_active")
+        );
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.crocodile.service.engine;
+
+/**
+ * RoomStateView - Serialized room state shared by all readers of one state version
+ * 
+ * Holds the JSON body seen by regular players and the one seen by the leader
+ * (which additionally contains the current word).
+ * 
+ * @param stateVersion the room state version the bodies were built from
+ * @param playerJson body for players other than the leader
+ * @param leaderJson body for the leader
+ */
+public record RoomStateView(long stateVersion, byte[] playerJson, byte[] leaderJson) {
+
+    public byte[] select(boolean leader) {
+        return leader ? leaderJson : playerJson;
+    }
+}
@@ -0,0 +1,99 @@
+package com.crocodile.service.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.crocodile.service.engine.PgArrays.setArray;
+
+/**
+ * RoomStateWriter - Set-based persistence of room snapshots
+ *
+ * Writes all snapshots of one flush in a single transaction with at most two
+ * statements - one per table - regardless of how many rooms and players changed.
+ * Rows are passed as PostgreSQL arrays and expanded with unnest, so a round
+ * transition (score, leader flip, cleared word) of any number of rooms costs two
+ * round trips. Completed rounds are written separately by {@link GameHistoryWriter}.
+ *
+ * Room rows are versioned optimistically: a row is only overwritten while its
+ * state_version is still the base version of the snapshot, i.e. the version the
+ * engine loaded or last flushed. Comparing against the snapshot's own version would
+ * not do - a room with several unflushed mutations is ahead of a row that the cleanup
+ * job bumped by one. Rooms whose row was changed behind the engine's back are
+ * reported as conflicts and none of their player changes are written.
+ * last_activity is not part of the snapshot; it is written by {@link RoomActivityTracker}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStateWriter {
+
+    private static final String UPDATE_ROOMS_SQL =
+        "UPDATE rooms r SET status = v.status, current_word = v.current_word, " +
+        "current_leader_id = v.current_leader_id, current_round = v.current_round, " +
+        "state_version = v.state_version " +
+        "FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[]) " +
+        "AS v(id, status, current_word, current_leader_id, current_round, state_version, base_version) " +
+        "WHERE r.id = v.id AND r.state_version = v.base_version " +
+        "RETURNING r.id";
+
+    private static final String UPDATE_PLAYERS_SQL =
+        "UPDATE players p SET name = v.name, score = v.score, is_leader = v.is_leader, is_active = v.is_active " +
+        "FROM unnest(?::bigint[], ?::varchar[], ?::integer[], ?::boolean[], ?::boolean[]) " +
+        "AS v(id, name, score, is_leader, is_active) " +
+        "WHERE p.id = v.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Write room and player changes
+     *
+     * @param snapshots snapshots to write
+     * @return IDs of rooms that were not written because the stored row changed since the base version
+     */
+    @Transactional
+    public Set<Long> write(List<RoomSnapshot> snapshots) {
+        Set<Long> writtenRoomIds = new HashSet<>(jdbcTemplate.query(UPDATE_ROOMS_SQL, ps -> {
+            setArray(ps, 1, "bigint", snapshots, RoomSnapshot::roomId);
+            setArray(ps, 2, "varchar", snapshots, room -> room.status().name());
+            setArray(ps, 3, "varchar", snapshots, RoomSnapshot::currentWord);
+            setArray(ps, 4, "bigint", snapshots, RoomSnapshot::currentLeaderId);
+            setArray(ps, 5, "bigint", snapshots, RoomSnapshot::currentRound);
+            setArray(ps, 6, "bigint", snapshots, RoomSnapshot::stateVersion);
+            setArray(ps, 7, "bigint", snapshots, RoomSnapshot::baseVersion);
+        }, (rs, rowNum) -> rs.getLong(1)));
+
+        Set<Long> conflictedRoomIds = new HashSet<>();
+        List<RoomSnapshot> written = new ArrayList<>();
+        for (RoomSnapshot snapshot : snapshots) {
+            if (writtenRoomIds.contains(snapshot.roomId())) {
+                written.add(snapshot);
+            } else {
+                conflictedRoomIds.add(snapshot.roomId());
+            }
+        }
+
+        List<RoomSnapshot.PlayerRow> players = written.stream()
+            .flatMap(snapshot -> snapshot.players().stream())
+            .toList();
+        if (!players.isEmpty()) {
+            jdbcTemplate.update(UPDATE_PLAYERS_SQL, ps -> {
+                setArray(ps, 1, "bigint", players, RoomSnapshot.PlayerRow::id);
+                setArray(ps, 2, "varchar", players, RoomSnapshot.PlayerRow::name);
+                setArray(ps, 3, "integer", players, RoomSnapshot.PlayerRow::score);
+                setArray(ps, 4, "boolean", players, RoomSnapshot.PlayerRow::leader);
+                setArray(ps, 5, "boolean", players, RoomSnapshot.PlayerRow::active);
+            });
+        }
+
+        log.debug("Flushed {} rooms, {} players", written.size(), players.size());
+        return conflictedRoomIds;
+    }
+}
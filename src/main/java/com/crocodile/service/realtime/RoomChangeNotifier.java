@@ -0,0 +1,66 @@
+package com.crocodile.service.realtime;
+
+import com.crocodile.domain.RoomCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RoomChangeNotifier - Publishes room state changes
+ *
+ * Called with the new state version whenever something visible in the room state changes.
+ * Outside a transaction the event is published immediately. Inside a transaction the
+ * notifications are collected and published once per room (with the latest version)
+ * after a successful commit, so listeners never observe uncommitted data.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomChangeNotifier {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Report a room state change
+     *
+     * @param roomCode the room code
+     * @param stateVersion the room state version after the change
+     */
+    public void roomChanged(RoomCode roomCode, long stateVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(roomCode, stateVersion);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<RoomCode, Long> pending = (Map<RoomCode, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<RoomCode, Long> changedRooms = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changedRooms);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changedRooms.forEach(RoomChangeNotifier.this::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoomChangeNotifier.this);
+                }
+            });
+            pending = changedRooms;
+        }
+        pending.merge(roomCode, stateVersion, Math::max);
+    }
+
+    private void publish(RoomCode roomCode, long stateVersion) {
+        log.debug("Room {} state changed, version {}", roomCode, stateVersion);
+        eventPublisher.publishEvent(new RoomStateChangedEvent(roomCode, stateVersion));
+    }
+}
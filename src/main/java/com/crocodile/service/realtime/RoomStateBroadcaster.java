@@ -0,0 +1,172 @@
+package com.crocodile.service.realtime;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.dto.RoomStateJson;
+import com.crocodile.exception.RoomNotFoundException;
+import com.crocodile.service.RoomCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RoomStateBroadcaster - Server-Sent Events delivery of room state
+ *
+ * Keeps the open SSE connections per room and pushes a fresh room state to them
+ * when a {@link RoomStateChangedEvent} arrives. Nothing is sent while the room is idle
+ * apart from a periodic comment line that keeps proxies from closing the connection.
+ *
+ * Configuration:
+ * - game.realtime.sse-timeout-minutes: lifetime of a single SSE connection
+ * - game.realtime.heartbeat-seconds: interval of keep-alive comments
+ */
+@Component
+@Slf4j
+public class RoomStateBroadcaster {
+
+    static final String STATE_EVENT = "state";
+
+    private final RoomCoordinator roomCoordinator;
+    private final long sseTimeoutMillis;
+
+    private final ConcurrentHashMap<RoomCode, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public RoomStateBroadcaster(RoomCoordinator roomCoordinator,
+                                @Value("${game.realtime.sse-timeout-minutes:30}") long sseTimeoutMinutes) {
+        this.roomCoordinator = roomCoordinator;
+        this.sseTimeoutMillis = Duration.ofMinutes(sseTimeoutMinutes).toMillis();
+    }
+
+    /**
+     * Open an SSE stream for the given room and send the current state immediately
+     *
+     * @param roomCode the room code
+     * @param sessionId the subscribing player's session ID (may be empty)
+     * @return emitter bound to the HTTP response
+     */
+    public SseEmitter subscribe(RoomCode roomCode, String sessionId) {
+        RoomStateJson initialState = roomCoordinator.getRoomStateJson(roomCode, sessionId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+
+        subscribers.computeIfAbsent(roomCode, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(roomCode, subscriber));
+        emitter.onTimeout(() -> unsubscribe(roomCode, subscriber));
+        emitter.onError(e -> unsubscribe(roomCode, subscriber));
+
+        subscriber.send(roomCode, initialState);
+        log.debug("SSE subscriber added for room {}. Subscribers: {}", roomCode, getSubscriberCount(roomCode));
+        return emitter;
+    }
+
+    /**
+     * Push the new room state to every subscriber of the changed room
+     *
+     * @param event the room state change
+     */
+    @Async("roomEventTaskExecutor")
+    @EventListener
+    public void onRoomStateChanged(RoomStateChangedEvent event) {
+        RoomCode roomCode = event.roomCode();
+        List<Subscriber> roomSubscribers = subscribers.get(roomCode);
+        if (roomSubscribers == null || roomSubscribers.isEmpty()) {
+            return;
+        }
+
+        // Several tabs of the same player share a session - build the state once per session
+        Map<String, RoomStateJson> statesBySession = new HashMap<>();
+        for (Subscriber subscriber : roomSubscribers) {
+            RoomStateJson state;
+            try {
+                state = statesBySession.computeIfAbsent(subscriber.sessionId(),
+                    sessionId -> roomCoordinator.getRoomStateJson(roomCode, sessionId));
+            } catch (RoomNotFoundException e) {
+                log.warn("Room {} disappeared, closing {} SSE subscribers", roomCode, roomSubscribers.size());
+                roomSubscribers.forEach(s -> s.emitter().complete());
+                return;
+            }
+            subscriber.send(roomCode, state);
+        }
+        log.debug("Pushed state of room {} to {} SSE subscribers", roomCode, roomSubscribers.size());
+    }
+
+    /**
+     * Send a keep-alive comment to all subscribers so idle connections are not dropped
+     * by proxies and dead connections are detected
+     */
+    @Scheduled(fixedRateString = "${game.realtime.heartbeat-seconds:25}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeats() {
+        subscribers.forEach((roomCode, roomSubscribers) ->
+            roomSubscribers.forEach(subscriber -> subscriber.heartbeat(roomCode)));
+    }
+
+    /**
+     * Get the number of open SSE connections for the room
+     *
+     * @param roomCode the room code
+     * @return number of subscribers
+     */
+    public int getSubscriberCount(RoomCode roomCode) {
+        List<Subscriber> roomSubscribers = subscribers.get(roomCode);
+        return roomSubscribers == null ? 0 : roomSubscribers.size();
+    }
+
+    private void unsubscribe(RoomCode roomCode, Subscriber subscriber) {
+        subscribers.computeIfPresent(roomCode, (code, roomSubscribers) -> {
+            roomSubscribers.remove(subscriber);
+            return roomSubscribers.isEmpty() ? null : roomSubscribers;
+        });
+    }
+
+    /**
+     * Single SSE connection. Sends are serialized because broadcasts and heartbeats
+     * run on different threads and SseEmitter does not allow concurrent writes.
+     * A lock is used instead of a monitor so a virtual thread blocked on the socket
+     * write does not pin its carrier thread.
+     */
+    private record Subscriber(String sessionId, SseEmitter emitter, ReentrantLock sendLock) {
+
+        Subscriber(String sessionId, SseEmitter emitter) {
+            this(sessionId, emitter, new ReentrantLock());
+        }
+
+        void send(RoomCode roomCode, RoomStateJson state) {
+            sendLock.lock();
+            try {
+                emitter.send(SseEmitter.event().name(STATE_EVENT).data(state.body(), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to push state of room {} to SSE subscriber: {}", roomCode, e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        void heartbeat(RoomCode roomCode) {
+            sendLock.lock();
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE heartbeat to room {} failed: {}", roomCode, e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                sendLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.crocodile.service.realtime;
+
+import com.crocodile.domain.RoomCode;
+
+/**
+ * Published after a transaction that changed the visible state of a room has committed.
+ *
+ * @param roomCode the room whose state changed
+ * @param stateVersion the room state version after the change
+ */
+public record RoomStateChangedEvent(RoomCode roomCode, long stateVersion) {
+}
@@ -0,0 +1,137 @@
+package com.crocodile.service.realtime;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.dto.RoomStateJson;
+import com.crocodile.exception.RoomNotFoundException;
+import com.crocodile.service.RoomCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RoomStateLongPoller - Long-poll delivery of room state
+ *
+ * A request that already has the current state version is parked as a
+ * {@link DeferredResult}, which releases the servlet container thread. The request is
+ * completed with the new state when a {@link RoomStateChangedEvent} for the room arrives,
+ * or with 204 No Content when the timeout expires.
+ *
+ * Configuration:
+ * - game.realtime.long-poll-timeout-seconds: how long a request is parked
+ */
+@Component
+@Slf4j
+public class RoomStateLongPoller {
+
+    private final RoomCoordinator roomCoordinator;
+    private final long timeoutMillis;
+
+    private final ConcurrentHashMap<RoomCode, Queue<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    public RoomStateLongPoller(RoomCoordinator roomCoordinator,
+                               @Value("${game.realtime.long-poll-timeout-seconds:25}") long timeoutSeconds) {
+        this.roomCoordinator = roomCoordinator;
+        this.timeoutMillis = Duration.ofSeconds(timeoutSeconds).toMillis();
+    }
+
+    /**
+     * Wait for the room state to move past the given version
+     *
+     * @param roomCode the room code
+     * @param sessionId the requesting player's session ID
+     * @param sinceVersion the state version the client already has
+     * @return deferred state, completed immediately when the client is behind
+     */
+    public DeferredResult<ResponseEntity<byte[]>> awaitChange(RoomCode roomCode, String sessionId,
+                                                                         long sinceVersion) {
+        DeferredResult<ResponseEntity<byte[]>> result =
+            new DeferredResult<>(timeoutMillis, () -> ResponseEntity.noContent().build());
+
+        if (roomCoordinator.getStateVersion(roomCode) != sinceVersion) {
+            result.setResult(stateResponse(roomCoordinator.getRoomStateJson(roomCode, sessionId)));
+            return result;
+        }
+
+        Waiter waiter = new Waiter(sessionId, result);
+        // Added under the map entry lock so a concurrent removal of the empty queue cannot drop it
+        waiters.compute(roomCode, (code, roomWaiters) -> {
+            Queue<Waiter> queue = roomWaiters == null ? new ConcurrentLinkedQueue<>() : roomWaiters;
+            queue.add(waiter);
+            return queue;
+        });
+        result.onCompletion(() -> removeWaiter(roomCode, waiter));
+
+        // A change committed between the version check and registration would otherwise be missed
+        if (roomCoordinator.getStateVersion(roomCode) != sinceVersion && removeWaiter(roomCode, waiter)) {
+            result.setResult(stateResponse(roomCoordinator.getRoomStateJson(roomCode, sessionId)));
+        }
+        return result;
+    }
+
+    /**
+     * Complete all parked requests of the changed room
+     *
+     * @param event the room state change
+     */
+    @Async("roomEventTaskExecutor")
+    @EventListener
+    public void onRoomStateChanged(RoomStateChangedEvent event) {
+        RoomCode roomCode = event.roomCode();
+        Queue<Waiter> roomWaiters = waiters.get(roomCode);
+        if (roomWaiters == null) {
+            return;
+        }
+
+        Map<String, RoomStateJson> statesBySession = new HashMap<>();
+        Waiter waiter;
+        int completed = 0;
+        while ((waiter = roomWaiters.poll()) != null) {
+            try {
+                RoomStateJson state = statesBySession.computeIfAbsent(waiter.sessionId(),
+                    sessionId -> roomCoordinator.getRoomStateJson(roomCode, sessionId));
+                waiter.result().setResult(stateResponse(state));
+                completed++;
+            } catch (RoomNotFoundException e) {
+                waiter.result().setErrorResult(e);
+            }
+        }
+        waiters.computeIfPresent(roomCode, (code, queue) -> queue.isEmpty() ? null : queue);
+        log.debug("Completed {} long-poll requests for room {}", completed, roomCode);
+    }
+
+    /**
+     * Remove a parked request and drop the room's queue once it is empty
+     *
+     * @return true if the request was still parked
+     */
+    private boolean removeWaiter(RoomCode roomCode, Waiter waiter) {
+        AtomicBoolean removed = new AtomicBoolean();
+        waiters.computeIfPresent(roomCode, (code, roomWaiters) -> {
+            removed.set(roomWaiters.remove(waiter));
+            return roomWaiters.isEmpty() ? null : roomWaiters;
+        });
+        return removed.get();
+    }
+
+    private static ResponseEntity<byte[]> stateResponse(RoomStateJson state) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(state.body());
+    }
+
+    private record Waiter(String sessionId, DeferredResult<ResponseEntity<byte[]>> result) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.crocodile.service.wordprovider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AiWordCache - Persistent copy of AI-generated words that survives restarts
+ *
+ * Batches generated by pool refills are written to ai_word_cache asynchronously, with the
+ * adapter that generated them and the generation time. When the application is ready the
+ * most recently generated words of every theme are loaded into the {@link WordPool}, so
+ * the first rounds after a deploy are served from the pool instead of waiting for the LLM.
+ * The reload runs before the {@link WordPoolWarmer}, which then only generates words for
+ * themes the cache could not fill.
+ *
+ * Words are not removed when they are handed out; rows older than the retention period
+ * are deleted periodically.
+ *
+ * Configuration:
+ * - game.llm.word-cache.enabled: persist generated words and reload them at startup
+ * - game.llm.word-cache.reload-per-theme: maximum number of words loaded per theme
+ * - game.llm.word-cache.retention-days: how long generated words are kept
+ * - game.llm.word-cache.cleanup-interval-ms: delay between retention cleanups
+ */
+@Component
+@Slf4j
+public class AiWordCache {
+
+    private static final int MAX_LENGTH = 255;
+
+    // A word generated again for the same theme only refreshes its row. Parameters in the
+    // select list have no column to infer their type from and are cast explicitly
+    private static final String INSERT_WORDS_SQL =
+        "INSERT INTO ai_word_cache (theme, word, adapter, generated_at) " +
+        "SELECT DISTINCT ?::varchar, w, ?::varchar, ?::timestamp FROM unnest(?::varchar[]) AS w " +
+        "ON CONFLICT (theme, word) DO UPDATE SET adapter = EXCLUDED.adapter, generated_at = EXCLUDED.generated_at";
+
+    private static final String SELECT_RECENT_WORDS_SQL =
+        "SELECT theme, word FROM (" +
+        "SELECT theme, word, row_number() OVER (PARTITION BY theme ORDER BY generated_at DESC) AS rn " +
+        "FROM ai_word_cache WHERE generated_at >= ?) recent " +
+        "WHERE rn <= ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM ai_word_cache WHERE generated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WordPool wordPool;
+    private final boolean enabled;
+    private final int reloadPerTheme;
+    private final Duration retention;
+
+    public AiWordCache(JdbcTemplate jdbcTemplate,
+                       WordPool wordPool,
+                       @Value("${game.llm.word-cache.enabled:true}") boolean enabled,
+                       @Value("${game.llm.word-cache.reload-per-theme:50}") int reloadPerTheme,
+                       @Value("${game.llm.word-cache.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wordPool = wordPool;
+        this.enabled = enabled;
+        this.reloadPerTheme = reloadPerTheme;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * Persist a generated batch
+     * This method runs in a background thread managed by wordPoolTaskExecutor
+     *
+     * @param theme the theme the words were generated for
+     * @param words the generated words
+     * @param adapterType type of the adapter that generated the words
+     */
+    @Async("wordPoolTaskExecutor")
+    public void saveAsync(String theme, List<String> words, String adapterType) {
+        if (!enabled || theme.length() > MAX_LENGTH) {
+            return;
+        }
+        Object[] values = words.stream().filter(word -> word.length() <= MAX_LENGTH).toArray();
+        if (values.length == 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_WORDS_SQL, ps -> {
+                ps.setString(1, theme);
+                ps.setString(2, adapterType);
+                ps.setTimestamp(3, Timestamp.from(Instant.now()));
+                ps.setArray(4, ps.getConnection().createArrayOf("varchar", values));
+            });
+            log.debug("Cached {} generated words for theme '{}'", values.length, theme);
+        } catch (RuntimeException e) {
+            // The words are in the pool already, only a restart would miss them
+            log.error("Failed to cache {} generated words for theme '{}': {}", values.length, theme, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load the most recently generated words of every theme into the word pool
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, List<String>> wordsByTheme = new LinkedHashMap<>();
+        try {
+            jdbcTemplate.query(SELECT_RECENT_WORDS_SQL,
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.from(Instant.now().minus(retention)));
+                    ps.setInt(2, reloadPerTheme);
+                },
+                rs -> {
+                    wordsByTheme.computeIfAbsent(rs.getString("theme"), theme -> new ArrayList<>())
+                        .add(rs.getString("word"));
+                });
+        } catch (RuntimeException e) {
+            log.error("Failed to load cached AI words, word pools start empty: {}", e.getMessage(), e);
+            return;
+        }
+
+        wordsByTheme.forEach((theme, words) -> {
+            // Players should not get the words in generation order after every restart
+            Collections.shuffle(words);
+            wordPool.addWords(theme, words);
+        });
+        log.info("Loaded {} cached AI words for {} themes into the word pool",
+                 wordsByTheme.values().stream().mapToInt(List::size).sum(), wordsByTheme.size());
+    }
+
+    /**
+     * Delete words older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${game.llm.word-cache.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(Instant.now().minus(retention)));
+        if (deleted > 0) {
+            log.info("Deleted {} expired cached AI words", deleted);
+        }
+    }
+}
@@ -2,11 +2,19 @@ package com.crocodile.service.wordprovider;
 
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
 import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
+import com.crocodile.service.wordprovider.llm.LlmRequestHedger;
+import com.crocodile.service.wordprovider.llm.LlmWordStreamer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AiWordProvider - WordProvider implementation using AI/LLM with word pooling
@@ -19,11 +27,16 @@ import java.util.List;
  * - Word pooling: Maintains a pool of pre-generated words per theme
  * - Batch generation: Generates multiple words in a single LLM API call
  * - Async refill: Automatically refills the pool in the background via WordPoolRefiller
+ * - Hedging: A slow synchronous generation can be hedged via LlmRequestHedger
+ * - Streaming: With game.llm.streaming.enabled the synchronous generation returns the
+ *   first streamed word and the remaining words go to the pool as they arrive
+ * - Single-flight: Concurrent callers hitting the same empty pool share one generation
+ *   and split its batch (or its stream); the rest of the batch goes to the pool
  * - Thread-safe: Uses WordPool with concurrent data structures
  *
  * Responsibilities:
  * - Provide words from the pool when available
- * - Generate words synchronously when pool is empty
+ * - Generate words synchronously when pool is empty, once per theme at a time
  * - Trigger async pool refill when size falls below threshold
  * - Handle errors gracefully
  * - Log operations for debugging
@@ -35,16 +48,28 @@ public class AiWordProvider implements WordProvider {
     private final LlmAdapterFactory llmAdapterFactory;
     private final WordPool wordPool;
     private final WordPoolRefiller wordPoolRefiller;
+    private final LlmRequestHedger llmRequestHedger;
+    private final LlmWordStreamer llmWordStreamer;
     
     @Value("${game.llm.word-pool.initial-size:10}")
     private int initialSize;
 
+    @Value("${game.llm.streaming.enabled:false}")
+    private boolean streamingEnabled;
+    
+    // In-flight synchronous generations per theme, shared by concurrent callers
+    private final ConcurrentHashMap<String, ColdGeneration> coldGenerations = new ConcurrentHashMap<>();
+
     public AiWordProvider(LlmAdapterFactory llmAdapterFactory, 
                           WordPool wordPool,
-                          WordPoolRefiller wordPoolRefiller) {
+                          WordPoolRefiller wordPoolRefiller,
+                          LlmRequestHedger llmRequestHedger,
+                          LlmWordStreamer llmWordStreamer) {
         this.llmAdapterFactory = llmAdapterFactory;
         this.wordPool = wordPool;
         this.wordPoolRefiller = wordPoolRefiller;
+        this.llmRequestHedger = llmRequestHedger;
+        this.llmWordStreamer = llmWordStreamer;
     }
 
     @Override
@@ -68,35 +93,7 @@ public class AiWordProvider implements WordProvider {
             }
             
             // Pool is empty - need to generate synchronously
-            log.info("Pool for theme '{}' is empty, generating initial batch synchronously", theme);
-            
-            LlmAdapter adapter = llmAdapterFactory.getActiveAdapter();
-            log.debug("Using LLM adapter: {}", adapter.getType());
-            
-            // Generate initial batch of words
-            List<String> words = adapter.generateWords(theme, initialSize);
-            
-            if (words == null || words.isEmpty()) {
-                throw new IllegalStateException("LLM returned empty word list");
-            }
-            
-            // Take the first word and add the rest to the pool
-            word = words.getFirst();
-            
-            if (words.size() > 1) {
-                List<String> remainingWords = words.subList(1, words.size());
-                wordPool.addWords(theme, remainingWords);
-                log.info("Added {} words to pool for theme '{}' after initial generation", 
-                         remainingWords.size(), theme);
-            }
-            
-            // Trigger async refill to fill up the pool
-            if (wordPool.needsRefill(theme)) {
-                wordPoolRefiller.triggerAsyncRefill(theme);
-            }
-            
-            log.info("Successfully generated word using AI: '{}' for theme: '{}'", word, theme);
-            return word;
+            return generateColdWord(theme);
             
         } catch (IllegalStateException e) {
             // This happens when no LLM adapter is available or configured
@@ -113,8 +110,215 @@ public class AiWordProvider implements WordProvider {
         }
     }
 
+    /**
+     * Generate a word for a theme whose pool is empty
+     * Concurrent callers for the same theme share one generation: the first one (the leader)
+     * calls the LLM, the others wait for it and get words of the same batch. In streaming
+     * mode the generation stays open until the stream has ended, and waiting callers get the
+     * streamed words before the pool does.
+     *
+     * @param theme the theme to generate a word for
+     * @return the generated word
+     */
+    private String generateColdWord(String theme) {
+        while (true) {
+            ColdGeneration generation = new ColdGeneration();
+            ColdGeneration inFlight = coldGenerations.putIfAbsent(theme, generation);
+            if (inFlight == null) {
+                return leadColdGeneration(theme, generation);
+            }
+            
+            CompletableFuture<String> sharedWord = inFlight.join();
+            if (sharedWord != null) {
+                log.debug("Waiting for the in-flight generation of theme '{}'", theme);
+                String word = awaitSharedWord(sharedWord);
+                if (word != null) {
+                    log.info("Received word '{}' from the shared generation for theme '{}'", word, theme);
+                    return word;
+                }
+            }
+            
+            // Joined too late or the generation had no word left - the pool may have words by now
+            String word = wordPool.pollWord(theme);
+            if (word != null) {
+                log.debug("Retrieved word '{}' from pool for theme '{}'", word, theme);
+                return word;
+            }
+        }
+    }
+
+    private String leadColdGeneration(String theme, ColdGeneration generation) {
+        log.info("Pool for theme '{}' is empty, generating initial batch synchronously", theme);
+        if (streamingEnabled) {
+            return leadStreamingGeneration(theme, generation);
+        }
+        
+        List<String> words;
+        try {
+            words = generateInitialBatch(theme);
+        } catch (RuntimeException e) {
+            finishColdGeneration(theme, generation, e);
+            throw e;
+        }
+        
+        // Take the first word, one word per waiting caller and add the rest to the pool.
+        // The generation stays registered until the words are in the pool, so a caller
+        // arriving meanwhile joins it instead of starting a second generation
+        String word = words.getFirst();
+        List<String> remainingWords = new ArrayList<>();
+        int shared = 0;
+        for (String next : words.subList(1, words.size())) {
+            if (generation.offer(next)) {
+                shared++;
+            } else {
+                remainingWords.add(next);
+            }
+        }
+        if (shared > 0) {
+            log.info("Generation for theme '{}' shared with {} waiting callers", theme, shared);
+        }
+        
+        if (!remainingWords.isEmpty()) {
+            wordPool.addWords(theme, remainingWords);
+            log.info("Added {} words to pool for theme '{}' after initial generation", 
+                     remainingWords.size(), theme);
+        }
+        // Callers still waiting now find the remaining words in the pool
+        finishColdGeneration(theme, generation, null);
+        
+        // Trigger async refill to fill up the pool
+        if (wordPool.needsRefill(theme)) {
+            wordPoolRefiller.triggerAsyncRefill(theme);
+        }
+        
+        log.info("Successfully generated word using AI: '{}' for theme: '{}'", word, theme);
+        return word;
+    }
+
+    /**
+     * Return the first streamed word; every following word goes to a waiting caller or,
+     * if none is waiting, to the pool. The generation is finished when the stream ends.
+     */
+    private String leadStreamingGeneration(String theme, ColdGeneration generation) {
+        LlmAdapter adapter;
+        try {
+            adapter = llmAdapterFactory.getActiveAdapter();
+        } catch (RuntimeException e) {
+            finishColdGeneration(theme, generation, e);
+            throw e;
+        }
+        log.debug("Using LLM adapter: {}", adapter.getType());
+        
+        String word = llmWordStreamer.streamFirstWord(adapter, theme, initialSize,
+            streamed -> {
+                if (!generation.offer(streamed)) {
+                    wordPool.addWord(theme, streamed);
+                }
+            },
+            failure -> finishColdGeneration(theme, generation, failure));
+        
+        log.info("Successfully generated word using AI: '{}' for theme: '{}'", word, theme);
+        return word;
+    }
+
+    /**
+     * Stop sharing a generation; callers still waiting get the error, or retry if there is none
+     */
+    private void finishColdGeneration(String theme, ColdGeneration generation, RuntimeException failure) {
+        coldGenerations.remove(theme, generation);
+        if (failure != null) {
+            generation.fail(failure);
+        } else {
+            generation.close();
+        }
+    }
+
+    /**
+     * Generate the initial batch for an empty pool
+     *
+     * @param theme the theme to generate words for
+     * @return the generated words, never empty
+     */
+    private List<String> generateInitialBatch(String theme) {
+        LlmAdapter adapter = llmAdapterFactory.getActiveAdapter();
+        log.debug("Using LLM adapter: {}", adapter.getType());
+        
+        // Generate initial batch of words - the leader is waiting, so a slow call may be hedged
+        List<String> words = llmRequestHedger.generateWords(adapter, theme, initialSize);
+        
+        if (words == null || words.isEmpty()) {
+            throw new IllegalStateException("LLM returned empty word list");
+        }
+        return words;
+    }
+
+    private static String awaitSharedWord(CompletableFuture<String> sharedWord) {
+        try {
+            return sharedWord.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public String getType() {
         return "ai";
     }
+
+    /**
+     * One synchronous generation for an empty pool, shared by all callers that join
+     * it before it completes
+     */
+    private static final class ColdGeneration {
+
+        // Waiting callers in arrival order, each completed with one word of the generation
+        private final Queue<CompletableFuture<String>> waiters = new ArrayDeque<>();
+        private boolean closed;
+
+        /**
+         * Register a waiting caller
+         *
+         * @return the caller's word, or null if the generation already completed
+         */
+        synchronized CompletableFuture<String> join() {
+            if (closed) {
+                return null;
+            }
+            CompletableFuture<String> word = new CompletableFuture<>();
+            waiters.add(word);
+            return word;
+        }
+
+        /**
+         * Hand a word to the longest waiting caller
+         *
+         * @return false if no caller is waiting
+         */
+        synchronized boolean offer(String word) {
+            CompletableFuture<String> waiter = waiters.poll();
+            if (waiter == null) {
+                return false;
+            }
+            waiter.complete(word);
+            return true;
+        }
+
+        /**
+         * Stop accepting callers; callers still waiting get no word
+         */
+        synchronized void close() {
+            closed = true;
+            waiters.forEach(waiter -> waiter.complete(null));
+            waiters.clear();
+        }
+
+        synchronized void fail(RuntimeException e) {
+            closed = true;
+            waiters.forEach(waiter -> waiter.completeExceptionally(e));
+            waiters.clear();
+        }
+    }
 }
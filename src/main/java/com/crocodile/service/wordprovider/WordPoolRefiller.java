@@ -1,15 +1,20 @@
 package com.crocodile.service.wordprovider;
 
+import com.crocodile.service.wordprovider.llm.GeneratedWords;
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
 import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -19,6 +24,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * using async task execution. It prevents duplicate refill operations and
  * handles errors gracefully.
  * 
+ * Multi-theme batching: with game.llm.word-pool.multi-theme.enabled, themes that need a
+ * refill are collected for game.llm.word-pool.multi-theme.window-ms and refilled together,
+ * up to game.llm.word-pool.multi-theme.max-themes per LLM request. One request then pays
+ * the system prompt for several themes. Themes missing from the response are refilled
+ * with a request of their own.
+ * 
+ * Refilled batches are also persisted by {@link AiWordCache}, which loads them into the
+ * pools again after a restart; the cache records the adapter that actually produced the
+ * batch, and batches of non-generative adapters (the database fallback) are not cached.
+ * 
  * Note: Uses self-injection to ensure @Async methods are called through Spring proxy
  */
 @Component
@@ -27,19 +42,31 @@ public class WordPoolRefiller {
 
     private final LlmAdapterFactory llmAdapterFactory;
     private final WordPool wordPool;
+    private final AiWordCache aiWordCache;
     private final WordPoolRefiller self;
     
     @Value("${game.llm.word-pool.batch-size:20}")
     private int batchSize;
     
+    @Value("${game.llm.word-pool.multi-theme.enabled:true}")
+    private boolean multiThemeEnabled;
+    
+    @Value("${game.llm.word-pool.multi-theme.max-themes:5}")
+    private int maxThemesPerRequest;
+    
     // Track ongoing refill operations per theme to prevent duplicate refills
     private final ConcurrentHashMap<String, AtomicBoolean> refillInProgress = new ConcurrentHashMap<>();
+    
+    // Themes waiting for the next multi-theme refill
+    private final ConcurrentLinkedQueue<String> pendingThemes = new ConcurrentLinkedQueue<>();
 
     public WordPoolRefiller(LlmAdapterFactory llmAdapterFactory, 
                             WordPool wordPool,
+                            AiWordCache aiWordCache,
                             @Lazy WordPoolRefiller self) {
         this.llmAdapterFactory = llmAdapterFactory;
         this.wordPool = wordPool;
+        this.aiWordCache = aiWordCache;
         this.self = self;
     }
 
@@ -49,10 +76,13 @@ public class WordPoolRefiller {
      * @param theme the theme to refill the pool for
      */
     public void triggerAsyncRefill(String theme) {
-        AtomicBoolean refilling = refillInProgress.computeIfAbsent(theme, k -> new AtomicBoolean(false));
-        
         // Only start refill if not already in progress
-        if (refilling.compareAndSet(false, true)) {
+        if (claimRefill(theme)) {
+            if (multiThemeEnabled) {
+                log.debug("Queueing refill for theme '{}' for the next multi-theme request", theme);
+                pendingThemes.add(theme);
+                return;
+            }
             log.debug("Starting async refill for theme '{}'", theme);
             // Call through proxy to ensure @Async works
             self.refillPoolAsync(theme);
@@ -61,6 +91,94 @@ public class WordPoolRefiller {
         }
     }
 
+    /**
+     * Refill the word pools of several themes on the calling thread
+     * Themes with a refill already in progress are skipped.
+     * 
+     * @param themes the themes to refill the pools for
+     * @return the themes refilled by this call, i.e. without the skipped ones
+     */
+    public List<String> refillPoolsNow(List<String> themes) {
+        List<String> claimed = themes.stream().filter(this::claimRefill).toList();
+        // Direct calls bypass the proxy, so the refill runs synchronously
+        if (claimed.size() == 1) {
+            refillPoolAsync(claimed.getFirst());
+        } else if (!claimed.isEmpty()) {
+            refillPoolsAsync(claimed);
+        }
+        return claimed;
+    }
+
+    /**
+     * Start refills for the themes queued since the previous run, grouped into
+     * multi-theme requests
+     */
+    @Scheduled(fixedDelayString = "${game.llm.word-pool.multi-theme.window-ms:200}")
+    public void flushPendingRefills() {
+        List<String> themes = new ArrayList<>();
+        String theme;
+        while ((theme = pendingThemes.poll()) != null) {
+            themes.add(theme);
+        }
+        if (themes.isEmpty()) {
+            return;
+        }
+        
+        int groupSize = Math.max(1, maxThemesPerRequest);
+        for (int from = 0; from < themes.size(); from += groupSize) {
+            List<String> group = List.copyOf(themes.subList(from, Math.min(from + groupSize, themes.size())));
+            // Call through proxy to ensure @Async works
+            if (group.size() == 1) {
+                self.refillPoolAsync(group.getFirst());
+            } else {
+                self.refillPoolsAsync(group);
+            }
+        }
+    }
+
+    /**
+     * Asynchronously refill the word pools of several themes with a single LLM request
+     * This method runs in a background thread managed by wordPoolTaskExecutor
+     * 
+     * @param themes the themes to refill the pools for
+     */
+    @Async("wordPoolTaskExecutor")
+    public void refillPoolsAsync(List<String> themes) {
+        List<String> missingThemes = new ArrayList<>(themes);
+        try {
+            log.info("Async multi-theme refill started for themes {}", themes);
+            
+            LlmAdapter adapter = llmAdapterFactory.getActiveAdapter();
+            GeneratedWords<Map<String, List<String>>> generated =
+                adapter.generateWordsForThemesWithSource(themes, batchSize);
+            Map<String, List<String>> wordsByTheme = generated.words();
+            
+            for (String theme : themes) {
+                List<String> words = wordsByTheme.get(theme);
+                if (words != null && !words.isEmpty()) {
+                    wordPool.addWords(theme, words);
+                    cacheWords(theme, words, generated);
+                    missingThemes.remove(theme);
+                    markRefillComplete(theme);
+                }
+            }
+            log.info("Async multi-theme refill completed: {} of {} themes refilled",
+                     themes.size() - missingThemes.size(), themes.size());
+            
+        } catch (Exception e) {
+            log.error("Error during async multi-theme refill for themes {}: {}", themes, e.getMessage(), e);
+            // The next word taken from these pools triggers a new refill
+            missingThemes.forEach(this::markRefillComplete);
+            return;
+        }
+        
+        // Themes the response had no section for get a request of their own
+        for (String theme : missingThemes) {
+            log.warn("Multi-theme refill returned no words for theme '{}', refilling it separately", theme);
+            refillPoolAsync(theme);
+        }
+    }
+
     /**
      * Asynchronously refill the word pool for the given theme
      * This method runs in a background thread managed by wordPoolTaskExecutor
@@ -75,10 +193,12 @@ public class WordPoolRefiller {
             LlmAdapter adapter = llmAdapterFactory.getActiveAdapter();
             
             // Generate a batch of words
-            List<String> words = adapter.generateWords(theme, batchSize);
+            GeneratedWords<List<String>> generated = adapter.generateWordsWithSource(theme, batchSize);
+            List<String> words = generated.words();
             
             if (words != null && !words.isEmpty()) {
                 wordPool.addWords(theme, words);
+                cacheWords(theme, words, generated);
                 log.info("Async refill completed for theme '{}': added {} words to pool", 
                          theme, words.size());
             } else {
@@ -88,11 +208,25 @@ public class WordPoolRefiller {
         } catch (Exception e) {
             log.error("Error during async pool refill for theme '{}': {}", theme, e.getMessage(), e);
         } finally {
-            // Mark refill as complete
-            AtomicBoolean refilling = refillInProgress.get(theme);
-            if (refilling != null) {
-                refilling.set(false);
-            }
+            markRefillComplete(theme);
+        }
+    }
+
+    private void cacheWords(String theme, List<String> words, GeneratedWords<?> generated) {
+        // Words served by a fallback like the database are not AI-generated
+        if (generated.generative()) {
+            aiWordCache.saveAsync(theme, words, generated.source());
+        }
+    }
+
+    private boolean claimRefill(String theme) {
+        return refillInProgress.computeIfAbsent(theme, k -> new AtomicBoolean(false)).compareAndSet(false, true);
+    }
+
+    private void markRefillComplete(String theme) {
+        AtomicBoolean refilling = refillInProgress.get(theme);
+        if (refilling != null) {
+            refilling.set(false);
         }
     }
 }
@@ -0,0 +1,36 @@
+package com.crocodile.service.wordprovider;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * WordPoolWarmUpHealthIndicator - Readiness of the word pools
+ *
+ * OUT_OF_SERVICE while {@link WordPoolWarmer} fills the pools at startup, UP once it has
+ * finished or was skipped. The indicator is part of the readiness health group, so an
+ * instance gets traffic only after its pools are warm; failed themes do not keep it
+ * unready, their pools fill on first use.
+ */
+@Component
+@RequiredArgsConstructor
+public class WordPoolWarmUpHealthIndicator implements HealthIndicator {
+
+    private final WordPoolWarmer wordPoolWarmer;
+
+    @Override
+    public Health health() {
+        WordPoolWarmer.State state = wordPoolWarmer.getState();
+        Health.Builder builder = switch (state) {
+            case PENDING, RUNNING -> Health.outOfService();
+            case COMPLETED, SKIPPED -> Health.up();
+        };
+        return builder
+            .withDetail("state", state)
+            .withDetail("themes", wordPoolWarmer.getTotalThemes())
+            .withDetail("warmed", wordPoolWarmer.getWarmedThemes())
+            .withDetail("failed", wordPoolWarmer.getFailedThemes())
+            .build();
+    }
+}
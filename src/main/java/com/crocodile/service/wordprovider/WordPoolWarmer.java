@@ -0,0 +1,203 @@
+package com.crocodile.service.wordprovider;
+
+import com.crocodile.repository.ThemeRepository;
+import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WordPoolWarmer - Fills the word pools of all catalog themes at startup
+ *
+ * When the application is ready (after {@link AiWordCache} has loaded the cached words)
+ * every theme of the themes table whose pool is below the refill threshold is refilled,
+ * so rooms find words in the pool from their first round. The refills run on the word
+ * pool executor with a bounded number of workers; each worker refills up to
+ * game.llm.word-pool.multi-theme.max-themes themes per LLM request, and requests of all
+ * workers are spaced by at least the configured interval to stay within the LLM rate
+ * limits. Progress is reported by {@link WordPoolWarmUpHealthIndicator}.
+ *
+ * Warm-up is skipped when no LLM adapter is available; pools then fill lazily.
+ *
+ * Configuration:
+ * - game.llm.warm-up.enabled: warm up the word pools at startup
+ * - game.llm.warm-up.concurrency: maximum number of parallel warm-up requests
+ * - game.llm.warm-up.min-request-interval-ms: minimum delay between two warm-up requests
+ */
+@Component
+@Slf4j
+public class WordPoolWarmer {
+
+    public enum State { PENDING, RUNNING, COMPLETED, SKIPPED }
+
+    private final ThemeRepository themeRepository;
+    private final WordPool wordPool;
+    private final WordPoolRefiller wordPoolRefiller;
+    private final LlmAdapterFactory llmAdapterFactory;
+    private final Executor wordPoolTaskExecutor;
+    private final boolean enabled;
+    private final int concurrency;
+    private final long minRequestIntervalMillis;
+    private final int themesPerRequest;
+
+    private volatile State state = State.PENDING;
+    private volatile int totalThemes;
+    private final AtomicInteger warmedThemes = new AtomicInteger();
+    private final AtomicInteger failedThemes = new AtomicInteger();
+
+    // Earliest start of the next warm-up request, shared by all workers
+    private long nextRequestAt;
+    private final ReentrantLock pacingLock = new ReentrantLock();
+
+    public WordPoolWarmer(ThemeRepository themeRepository,
+                          WordPool wordPool,
+                          WordPoolRefiller wordPoolRefiller,
+                          LlmAdapterFactory llmAdapterFactory,
+                          @Qualifier("wordPoolTaskExecutor") Executor wordPoolTaskExecutor,
+                          @Value("${game.llm.warm-up.enabled:true}") boolean enabled,
+                          @Value("${game.llm.warm-up.concurrency:2}") int concurrency,
+                          @Value("${game.llm.warm-up.min-request-interval-ms:1000}") long minRequestIntervalMillis,
+                          @Value("${game.llm.word-pool.multi-theme.max-themes:5}") int themesPerRequest) {
+        this.themeRepository = themeRepository;
+        this.wordPool = wordPool;
+        this.wordPoolRefiller = wordPoolRefiller;
+        this.llmAdapterFactory = llmAdapterFactory;
+        this.wordPoolTaskExecutor = wordPoolTaskExecutor;
+        this.enabled = enabled;
+        this.concurrency = Math.max(1, concurrency);
+        this.minRequestIntervalMillis = minRequestIntervalMillis;
+        this.themesPerRequest = Math.max(1, themesPerRequest);
+    }
+
+    /**
+     * Start warming up the pools of all catalog themes that need words
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("Word pool warm-up is disabled");
+            state = State.SKIPPED;
+            return;
+        }
+
+        List<String> themes;
+        try {
+            llmAdapterFactory.getActiveAdapter();
+            themes = themeRepository.findAllThemeNames().stream()
+                .filter(wordPool::needsRefill)
+                .toList();
+        } catch (RuntimeException e) {
+            log.warn("Skipping word pool warm-up, pools fill on first use: {}", e.getMessage());
+            state = State.SKIPPED;
+            return;
+        }
+
+        totalThemes = themes.size();
+        if (themes.isEmpty()) {
+            log.info("Word pools of all themes are filled, no warm-up needed");
+            state = State.COMPLETED;
+            return;
+        }
+
+        int workers = Math.min(concurrency, (themes.size() + themesPerRequest - 1) / themesPerRequest);
+        log.info("Warming up word pools of {} themes with {} workers", themes.size(), workers);
+        state = State.RUNNING;
+
+        Queue<String> pendingThemes = new ConcurrentLinkedQueue<>(themes);
+        AtomicInteger runningWorkers = new AtomicInteger(workers);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < workers; i++) {
+            wordPoolTaskExecutor.execute(() -> {
+                try {
+                    warmThemes(pendingThemes);
+                } finally {
+                    if (runningWorkers.decrementAndGet() == 0) {
+                        state = State.COMPLETED;
+                        log.info("Word pool warm-up completed in {} ms: {} themes warmed, {} failed",
+                                 (System.nanoTime() - startNanos) / 1_000_000, warmedThemes.get(), failedThemes.get());
+                    }
+                }
+            });
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getTotalThemes() {
+        return totalThemes;
+    }
+
+    public int getWarmedThemes() {
+        return warmedThemes.get();
+    }
+
+    public int getFailedThemes() {
+        return failedThemes.get();
+    }
+
+    private void warmThemes(Queue<String> pendingThemes) {
+        while (true) {
+            List<String> group = new ArrayList<>();
+            String theme;
+            while (group.size() < themesPerRequest && (theme = pendingThemes.poll()) != null) {
+                group.add(theme);
+            }
+            if (group.isEmpty()) {
+                return;
+            }
+
+            // Themes whose refill was started elsewhere may still be empty - they are not counted
+            List<String> refilled = group;
+            try {
+                awaitRequestSlot();
+                refilled = wordPoolRefiller.refillPoolsNow(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedThemes.addAndGet(group.size() + pendingThemes.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Word pool warm-up failed for themes {}: {}", group, e.getMessage(), e);
+            }
+
+            for (String warmed : refilled) {
+                if (wordPool.isEmpty(warmed)) {
+                    failedThemes.incrementAndGet();
+                } else {
+                    warmedThemes.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void awaitRequestSlot() throws InterruptedException {
+        long waitMillis;
+        pacingLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            long slot = Math.max(now, nextRequestAt);
+            nextRequestAt = slot + minRequestIntervalMillis;
+            waitMillis = slot - now;
+        } finally {
+            pacingLock.unlock();
+        }
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.crocodile.service.wordprovider.llm;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * FailoverLlmAdapter - Ordered chain of LLM adapters
+ *
+ * Words are generated by the first adapter of the chain that is available and
+ * answers with words; failing or unavailable adapters are skipped. Together with
+ * {@link GuardedLlmAdapter} a dead backend is skipped without a network call until
+ * its circuit breaker lets a probe through.
+ */
+@Slf4j
+public class FailoverLlmAdapter implements LlmAdapter {
+
+    private final List<LlmAdapter> chain;
+
+    public FailoverLlmAdapter(List<? extends LlmAdapter> chain) {
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("LLM adapter chain must not be empty");
+        }
+        this.chain = List.copyOf(chain);
+    }
+
+    @Override
+    public List<String> generateWords(String theme, int count) {
+        return failover(theme, adapter -> adapter.generateWords(theme, count), FailoverLlmAdapter::hasWords);
+    }
+
+    /**
+     * Stream words from the first adapter that works
+     *
+     * An adapter that fails after it already streamed words ends the call with those
+     * words instead of failing over, so no word is handed out twice.
+     */
+    @Override
+    public List<String> streamWords(String theme, int count, Consumer<String> onWord) {
+        return failover(theme, adapter -> {
+            List<String> emitted = new ArrayList<>();
+            try {
+                return adapter.streamWords(theme, count, word -> {
+                    emitted.add(word);
+                    onWord.accept(word);
+                });
+            } catch (RuntimeException e) {
+                if (emitted.isEmpty() || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                log.warn("LLM adapter '{}' failed after streaming {} words for theme '{}': {}",
+                    adapter.getType(), emitted.size(), theme, e.getMessage());
+                return emitted;
+            }
+        }, FailoverLlmAdapter::hasWords);
+    }
+
+    @Override
+    public Map<String, List<String>> generateWordsForThemes(List<String> themes, int count) {
+        return failover(String.join(", ", themes), adapter -> adapter.generateWordsForThemes(themes, count),
+            FailoverLlmAdapter::hasWordsForAnyTheme);
+    }
+
+    /**
+     * Generate words and report the chain member that produced them
+     */
+    @Override
+    public GeneratedWords<List<String>> generateWordsWithSource(String theme, int count) {
+        return failover(theme,
+            adapter -> new GeneratedWords<>(adapter.generateWords(theme, count), adapter.getType(), adapter.isGenerative()),
+            generated -> hasWords(generated.words()));
+    }
+
+    /**
+     * Generate words for several themes and report the chain member that produced them
+     */
+    @Override
+    public GeneratedWords<Map<String, List<String>>> generateWordsForThemesWithSource(List<String> themes, int count) {
+        return failover(String.join(", ", themes),
+            adapter -> new GeneratedWords<>(adapter.generateWordsForThemes(themes, count), adapter.getType(),
+                adapter.isGenerative()),
+            generated -> hasWordsForAnyTheme(generated.words()));
+    }
+
+    private <T> T failover(String theme, Function<LlmAdapter, T> call, Predicate<T> hasWords) {
+        List<String> failures = new ArrayList<>();
+        for (LlmAdapter adapter : chain) {
+            if (!adapter.isAvailable()) {
+                failures.add(adapter.getType() + ": not available");
+                continue;
+            }
+            try {
+                T words = call.apply(adapter);
+                if (hasWords.test(words)) {
+                    return words;
+                }
+                failures.add(adapter.getType() + ": no words");
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                failures.add(adapter.getType() + ": " + e.getMessage());
+            }
+            log.warn("LLM adapter '{}' failed for theme '{}', trying next adapter", adapter.getType(), theme);
+        }
+        throw new IllegalStateException("All LLM adapters failed: " + String.join("; ", failures));
+    }
+
+    private static boolean hasWords(List<String> words) {
+        return words != null && !words.isEmpty();
+    }
+
+    private static boolean hasWordsForAnyTheme(Map<String, List<String>> wordsByTheme) {
+        return wordsByTheme != null && wordsByTheme.values().stream().anyMatch(FailoverLlmAdapter::hasWords);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return chain.stream().anyMatch(LlmAdapter::isAvailable);
+    }
+
+    /**
+     * Get the type of the adapter that would be tried first
+     *
+     * @return type of the first available adapter of the chain, or of the first adapter if none is available
+     */
+    @Override
+    public String getType() {
+        return chain.stream()
+            .filter(LlmAdapter::isAvailable)
+            .findFirst()
+            .orElse(chain.getFirst())
+            .getType();
+    }
+}
@@ -0,0 +1,14 @@
+package com.crocodile.service.wordprovider.llm;
+
+/**
+ * GeneratedWords - Words together with the adapter that actually produced them
+ *
+ * Behind a failover chain the adapter that answers is only known after the call,
+ * so callers that record the source (e.g. the word cache) get it with the result.
+ *
+ * @param words the generated words (a list, or words by theme)
+ * @param source type of the adapter that produced the words
+ * @param generative whether the source generates words with a model (see {@link LlmAdapter#isGenerative()})
+ */
+public record GeneratedWords<T>(T words, String source, boolean generative) {
+}
@@ -0,0 +1,94 @@
+package com.crocodile.service.wordprovider.llm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * GuardedLlmAdapter - LlmAdapter decorator that calls its delegate through a circuit breaker
+ *
+ * While the breaker is open, calls fail immediately and the adapter reports itself as
+ * unavailable without checking the backend, so a dead backend costs no connect timeouts.
+ * A failed availability check of a configured adapter counts as a failure, like a failed
+ * call. A call cancelled by the caller (thread interrupted, e.g. a losing hedge request)
+ * is not counted as a failure.
+ */
+public class GuardedLlmAdapter implements LlmAdapter {
+
+    private final LlmAdapter delegate;
+    private final LlmCircuitBreaker circuitBreaker;
+
+    public GuardedLlmAdapter(LlmAdapter delegate, LlmCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public List<String> generateWords(String theme, int count) {
+        return guarded(() -> delegate.generateWords(theme, count));
+    }
+
+    @Override
+    public List<String> streamWords(String theme, int count, Consumer<String> onWord) {
+        return guarded(() -> delegate.streamWords(theme, count, onWord));
+    }
+
+    @Override
+    public Map<String, List<String>> generateWordsForThemes(List<String> themes, int count) {
+        return guarded(() -> delegate.generateWordsForThemes(themes, count));
+    }
+
+    private <T> T guarded(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new IllegalStateException(
+                String.format("LLM adapter '%s' is failing, circuit breaker is open", delegate.getType()));
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                circuitBreaker.release();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        if (circuitBreaker.isOpen()) {
+            return false;
+        }
+        if (delegate.isAvailable()) {
+            return true;
+        }
+        // The backend did not answer the availability check - the next calls would fail as well
+        if (delegate.isConfigured()) {
+            circuitBreaker.onFailure();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return delegate.isConfigured();
+    }
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public boolean isGenerative() {
+        return delegate.isGenerative();
+    }
+
+    public LlmCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
@@ -1,6 +1,9 @@
 package com.crocodile.service.wordprovider.llm;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * LlmAdapter - Black Box Interface for LLM Integration
@@ -12,6 +15,8 @@ import java.util.List;
  * Responsibilities:
  * - Generate words using AI/LLM for a given theme
  * - Support batch generation for optimization
+ * - Optionally generate words for several themes in one request
+ * - Optionally stream words as they are generated
  * - Report availability status
  * - Identify the LLM provider type
  */
@@ -28,6 +33,62 @@ public interface LlmAdapter {
      */
     List<String> generateWords(String theme, int count);
     
+    /**
+     * Generate multiple words, handing each one over as soon as it is generated
+     * Adapters that support streaming responses parse words from the token stream;
+     * the default implementation waits for the complete list.
+     * 
+     * @param theme the theme for word generation
+     * @param count the number of words to generate
+     * @param onWord receives every word in order, on the calling thread
+     * @return list of generated words
+     */
+    default List<String> streamWords(String theme, int count, Consumer<String> onWord) {
+        List<String> words = generateWords(theme, count);
+        if (words != null) {
+            words.forEach(onWord);
+        }
+        return words;
+    }
+    
+    /**
+     * Generate words for several themes with a single request where the provider supports it
+     * The default implementation makes one generateWords() call per theme.
+     * 
+     * @param themes the themes for word generation
+     * @param count the number of words to generate per theme
+     * @return generated words by theme; themes the response had no words for may be missing
+     */
+    default Map<String, List<String>> generateWordsForThemes(List<String> themes, int count) {
+        Map<String, List<String>> wordsByTheme = new LinkedHashMap<>();
+        for (String theme : themes) {
+            wordsByTheme.put(theme, generateWords(theme, count));
+        }
+        return wordsByTheme;
+    }
+    
+    /**
+     * Generate multiple words and report which adapter produced them
+     * 
+     * @param theme the theme for word generation
+     * @param count the number of words to generate
+     * @return generated words with their source
+     */
+    default GeneratedWords<List<String>> generateWordsWithSource(String theme, int count) {
+        return new GeneratedWords<>(generateWords(theme, count), getType(), isGenerative());
+    }
+    
+    /**
+     * Generate words for several themes and report which adapter produced them
+     * 
+     * @param themes the themes for word generation
+     * @param count the number of words to generate per theme
+     * @return generated words by theme with their source
+     */
+    default GeneratedWords<Map<String, List<String>>> generateWordsForThemesWithSource(List<String> themes, int count) {
+        return new GeneratedWords<>(generateWordsForThemes(themes, count), getType(), isGenerative());
+    }
+    
     /**
      * Check if this LLM adapter is available and ready to use
      * This allows graceful degradation when a service is unavailable
@@ -35,9 +96,29 @@ public interface LlmAdapter {
      */
     boolean isAvailable();
     
+    /**
+     * Check whether this adapter is enabled and configured, without contacting the backend
+     * A configured adapter that is not available failed its availability check, which the
+     * circuit breaker counts as a failure.
+     * @return true if the adapter is enabled and configured
+     */
+    default boolean isConfigured() {
+        return true;
+    }
+    
     /**
      * Get the type identifier of this LLM adapter
      * @return adapter type (e.g., "lm-studio", "yandex-gpt")
      */
     String getType();
+    
+    /**
+     * Check whether this adapter generates new words with a model
+     * Adapters serving stored words (e.g. from the database) are not used as hedge
+     * targets, and their words are not cached as AI-generated.
+     * @return true if words are generated by an LLM
+     */
+    default boolean isGenerative() {
+        return true;
+    }
 }
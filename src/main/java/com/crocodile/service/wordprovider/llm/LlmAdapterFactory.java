@@ -1,21 +1,31 @@
 package com.crocodile.service.wordprovider.llm;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * LlmAdapterFactory - Factory for selecting active LLM adapter
- * 
+ *
  * This factory manages the selection of the active LLM adapter based on configuration.
- * It ensures that only one LLM adapter is active at a time, and that the selected
- * adapter is properly configured and available.
+ * The active adapter is an ordered failover chain: game.llm.failover-chain lists adapter
+ * types in the order they are tried (e.g. "lm-studio,yandex-gpt,database"); without it
+ * the chain consists of game.llm.active-provider only.
+ *
+ * Every adapter handed out by the factory is guarded by its own {@link LlmCircuitBreaker}:
+ * after game.llm.circuit-breaker.failure-threshold consecutive failures calls to it fail
+ * immediately for game.llm.circuit-breaker.open-seconds, then a single probe call decides
+ * whether it is used again.
  */
 @Component
 @RequiredArgsConstructor
@@ -24,42 +34,74 @@ public class LlmAdapterFactory {
 
     @Value("${game.llm.active-provider:lm-studio}")
     private String activeProviderType;
-    
+
+    @Value("${game.llm.failover-chain:}")
+    private String failoverChain;
+
+    @Value("${game.llm.circuit-breaker.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${game.llm.circuit-breaker.open-seconds:30}")
+    private long openSeconds;
+
     private final List<LlmAdapter> llmAdapters;
 
+    // Adapters guarded by circuit breakers, keyed by type in registration order
+    private Map<String, GuardedLlmAdapter> guardedAdapters;
+
+    @PostConstruct
+    void initCircuitBreakers() {
+        guardedAdapters = new LinkedHashMap<>();
+        for (LlmAdapter adapter : llmAdapters) {
+            LlmCircuitBreaker circuitBreaker =
+                new LlmCircuitBreaker(adapter.getType(), failureThreshold, openSeconds * 1000);
+            guardedAdapters.put(adapter.getType(), new GuardedLlmAdapter(adapter, circuitBreaker));
+        }
+    }
+
     /**
      * Get the currently active LLM adapter based on configuration
-     * @return the active LLM adapter
-     * @throws IllegalStateException if no adapter is configured or available
+     * @return the failover chain of configured adapters
+     * @throws IllegalStateException if an adapter of the chain is unknown or none of them is available
      */
     public LlmAdapter getActiveAdapter() {
-        log.debug("Getting active LLM adapter, configured type: {}", activeProviderType);
-        
-        Map<String, LlmAdapter> adapterMap = llmAdapters.stream()
-            .collect(Collectors.toMap(LlmAdapter::getType, Function.identity()));
-        
-        LlmAdapter adapter = adapterMap.get(activeProviderType);
-        
-        if (adapter == null) {
-            log.error("No LLM adapter found for type: {}. Available types: {}", 
-                     activeProviderType, adapterMap.keySet());
-            throw new IllegalStateException(
-                String.format("Unknown LLM adapter type: %s. Available types: %s", 
-                             activeProviderType, adapterMap.keySet())
-            );
-        }
-        
-        if (!adapter.isAvailable()) {
-            log.error("LLM adapter '{}' is not available. Check configuration and service status.", 
-                     activeProviderType);
+        List<String> chainTypes = getChainTypes();
+        log.debug("Getting active LLM adapter, configured chain: {}", chainTypes);
+
+        List<GuardedLlmAdapter> chain = chainTypes.stream()
+            .map(type -> {
+                GuardedLlmAdapter adapter = guardedAdapters.get(type);
+                if (adapter == null) {
+                    log.error("No LLM adapter found for type: {}. Available types: {}",
+                             type, guardedAdapters.keySet());
+                    throw new IllegalStateException(
+                        String.format("Unknown LLM adapter type: %s. Available types: %s",
+                                     type, guardedAdapters.keySet())
+                    );
+                }
+                return adapter;
+            })
+            .toList();
+
+        if (chain.stream().noneMatch(LlmAdapter::isAvailable)) {
+            log.error("LLM adapters {} are not available. Check configuration and service status.",
+                     chainTypes);
             throw new IllegalStateException(
-                String.format("LLM adapter '%s' is not available. Check configuration and ensure the service is running.", 
-                             activeProviderType)
+                String.format("LLM adapter '%s' is not available. Check configuration and ensure the service is running.",
+                             String.join(", ", chainTypes))
             );
         }
-        
-        log.info("Active LLM adapter: {}", adapter.getType());
-        return adapter;
+
+        return new FailoverLlmAdapter(chain);
+    }
+
+    /**
+     * Find an adapter by type regardless of its availability
+     * @param type adapter type identifier
+     * @return the adapter guarded by its circuit breaker, or empty if no adapter has this type
+     */
+    public Optional<LlmAdapter> findAdapter(String type) {
+        return Optional.ofNullable(guardedAdapters.get(type));
     }
 
     /**
@@ -74,12 +116,26 @@ public class LlmAdapterFactory {
 
     /**
      * Get list of currently available (configured and ready) adapters
+     * Only members of the configured chain are listed, in chain order; adapters with an
+     * open circuit breaker are not ready.
      * @return list of available adapter type identifiers
      */
     public List<String> getReadyAdapterTypes() {
-        return llmAdapters.stream()
+        return getChainTypes().stream()
+            .map(guardedAdapters::get)
+            .filter(Objects::nonNull)
             .filter(LlmAdapter::isAvailable)
             .map(LlmAdapter::getType)
             .collect(Collectors.toList());
     }
+
+    private List<String> getChainTypes() {
+        if (failoverChain == null || failoverChain.isBlank()) {
+            return List.of(activeProviderType);
+        }
+        return Arrays.stream(failoverChain.split(","))
+            .map(String::trim)
+            .filter(type -> !type.isEmpty())
+            .toList();
+    }
 }
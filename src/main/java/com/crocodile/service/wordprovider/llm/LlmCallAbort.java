@@ -0,0 +1,91 @@
+package com.crocodile.service.wordprovider.llm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LlmCallAbort - Abort handle for an LLM call made on another thread
+ *
+ * Interrupting a thread does not stop a blocking socket read, so a cancelled call would
+ * otherwise run until its read timeout. While a call runs through {@link #call(Supplier)},
+ * the HTTP request factory registers every connection the call opens (see
+ * {@link #register(Runnable)}); {@link #abort()} closes them, and the blocked read fails
+ * at once. Aborting a call that has already finished does nothing.
+ */
+public final class LlmCallAbort {
+
+    private static final ThreadLocal<LlmCallAbort> CURRENT = new ThreadLocal<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Runnable> disconnects = new ArrayList<>();
+    private boolean aborted;
+    private boolean finished;
+
+    /**
+     * Make a call on the current thread, registering its connections with this handle
+     *
+     * @param call the call
+     * @return the call's result
+     */
+    public <T> T call(Supplier<T> call) {
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+            lock.lock();
+            try {
+                finished = true;
+                disconnects.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Close the connections of the call, and any it opens later
+     */
+    public void abort() {
+        List<Runnable> toClose;
+        lock.lock();
+        try {
+            if (finished || aborted) {
+                return;
+            }
+            aborted = true;
+            toClose = List.copyOf(disconnects);
+            disconnects.clear();
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(Runnable::run);
+    }
+
+    /**
+     * Register a connection about to be opened on the current thread; does nothing
+     * outside {@link #call(Supplier)}
+     *
+     * @param disconnect closes the connection
+     * @return false if the call was aborted already and the connection must not be opened
+     */
+    public static boolean register(Runnable disconnect) {
+        LlmCallAbort current = CURRENT.get();
+        return current == null || current.add(disconnect);
+    }
+
+    private boolean add(Runnable disconnect) {
+        lock.lock();
+        try {
+            if (aborted) {
+                return false;
+            }
+            disconnects.add(disconnect);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.crocodile.service.wordprovider.llm;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * LlmCircuitBreaker - Failure tracking for one LLM adapter
+ *
+ * CLOSED: calls pass; after failure-threshold consecutive failures the breaker opens.
+ * OPEN: calls are rejected immediately, without touching the backend, for open-duration.
+ * HALF_OPEN: after open-duration a single probe call is let through; its success closes
+ * the breaker, its failure opens it for another open-duration.
+ */
+@Slf4j
+public class LlmCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public LlmCircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    LlmCircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Ask for permission to make a call; every granted call must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #release()}
+     *
+     * @return true if the call may be made
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - openedAt < openNanos) {
+                        return false;
+                    }
+                    log.info("Circuit breaker for LLM adapter '{}' is half-open, probing", name);
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return true;
+                default:
+                    if (probeInFlight) {
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Check whether calls would currently be rejected
+     *
+     * @return true if the breaker is open and the open duration has not elapsed
+     */
+    public boolean isOpen() {
+        lock.lock();
+        try {
+            return (state == State.OPEN && nanoClock.getAsLong() - openedAt < openNanos)
+                || (state == State.HALF_OPEN && probeInFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state != State.CLOSED) {
+                log.info("Circuit breaker for LLM adapter '{}' is closed again", name);
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                log.warn("Circuit breaker for LLM adapter '{}' is open after {} consecutive failures",
+                    name, consecutiveFailures);
+                state = State.OPEN;
+                openedAt = nanoClock.getAsLong();
+                probeInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return the permission of a call that ended without telling anything about the
+     * backend (e.g. cancelled by the caller)
+     */
+    public void release() {
+        lock.lock();
+        try {
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
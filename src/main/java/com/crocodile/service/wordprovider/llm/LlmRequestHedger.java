@@ -0,0 +1,280 @@
+package com.crocodile.service.wordprovider.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LlmRequestHedger - Hedged LLM calls for requests waiting on word generation
+ *
+ * The call goes to the given adapter first. If it has not answered after the hedge
+ * delay, a second identical call is sent to another ready generative adapter of the
+ * configured chain (or to the same one if there is none). The first successful answer
+ * wins, the other call is cancelled: its thread is interrupted and its HTTP connection
+ * is closed through an {@link LlmCallAbort}, since a blocking socket read ignores the
+ * interrupt. A call fails only if all attempts fail; a primary that fails before the
+ * delay is not hedged.
+ *
+ * The hedge delay is the configured percentile of recent successful call latencies,
+ * so roughly that share of calls never sends a hedge. Until enough latencies are
+ * recorded the configured initial delay is used.
+ *
+ * Metrics:
+ * - llm.hedge.calls: calls made with hedging enabled
+ * - llm.hedge.sent: calls that sent a hedge (hedge rate = sent / calls)
+ * - llm.hedge.wins: calls won by the hedge (win ratio = wins / sent)
+ * - llm.hedge.delay: current hedge delay in milliseconds
+ *
+ * Configuration:
+ * - game.llm.hedging.enabled: enable hedging (off by default, it can double LLM usage)
+ * - game.llm.hedging.delay-ms: hedge delay until enough latencies are recorded
+ * - game.llm.hedging.min-delay-ms: lower bound of the hedge delay
+ * - game.llm.hedging.percentile: latency percentile used as the hedge delay
+ */
+@Component
+@Slf4j
+public class LlmRequestHedger {
+
+    private static final int LATENCY_WINDOW = 100;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private final LlmAdapterFactory llmAdapterFactory;
+    private final Executor llmRequestTaskExecutor;
+    private final boolean enabled;
+    private final long initialDelayMillis;
+    private final long minDelayMillis;
+    private final double percentile;
+    private final Counter calls;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    // Ring buffer of recent successful call latencies in milliseconds
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int nextLatency;
+    private final ReentrantLock latencyLock = new ReentrantLock();
+
+    public LlmRequestHedger(LlmAdapterFactory llmAdapterFactory,
+                            @Qualifier("llmRequestTaskExecutor") Executor llmRequestTaskExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${game.llm.hedging.enabled:false}") boolean enabled,
+                            @Value("${game.llm.hedging.delay-ms:3000}") long initialDelayMillis,
+                            @Value("${game.llm.hedging.min-delay-ms:500}") long minDelayMillis,
+                            @Value("${game.llm.hedging.percentile:0.9}") double percentile) {
+        this.llmAdapterFactory = llmAdapterFactory;
+        this.llmRequestTaskExecutor = llmRequestTaskExecutor;
+        this.enabled = enabled;
+        this.initialDelayMillis = initialDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.percentile = percentile;
+        this.calls = Counter.builder("llm.hedge.calls")
+            .description("LLM calls made with hedging enabled")
+            .register(meterRegistry);
+        this.hedges = Counter.builder("llm.hedge.sent")
+            .description("LLM calls that sent a hedge request because the first one was slow")
+            .register(meterRegistry);
+        this.hedgeWins = Counter.builder("llm.hedge.wins")
+            .description("LLM calls answered by the hedge request")
+            .register(meterRegistry);
+        Gauge.builder("llm.hedge.delay", this, LlmRequestHedger::getHedgeDelayMillis)
+            .description("Current delay before a hedge request is sent, in milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Generate words, hedging a slow call if enabled
+     *
+     * @param adapter the adapter to call first
+     * @param theme the theme for word generation
+     * @param count the number of words to generate
+     * @return list of generated words
+     */
+    public List<String> generateWords(LlmAdapter adapter, String theme, int count) {
+        if (!enabled) {
+            return adapter.generateWords(theme, count);
+        }
+        calls.increment();
+
+        Attempt primary;
+        try {
+            primary = start(adapter, theme, count);
+        } catch (RejectedExecutionException e) {
+            log.warn("LLM request executor is saturated, calling '{}' without hedging", adapter.getType());
+            return adapter.generateWords(theme, count);
+        }
+
+        long delayMillis = getHedgeDelayMillis();
+        try {
+            return await(primary.words(), delayMillis);
+        } catch (TimeoutException e) {
+            log.debug("LLM adapter '{}' did not answer within {} ms, sending hedge request",
+                adapter.getType(), delayMillis);
+        } catch (RuntimeException e) {
+            primary.cancel();
+            throw e;
+        }
+
+        LlmAdapter hedgeAdapter = selectHedgeAdapter(adapter);
+        Attempt hedge;
+        try {
+            hedge = start(hedgeAdapter, theme, count);
+        } catch (RejectedExecutionException e) {
+            log.warn("LLM request executor is saturated, not hedging call to '{}'", adapter.getType());
+            return awaitResult(primary);
+        }
+        hedges.increment();
+
+        try {
+            Attempt winner = firstSuccess(primary, hedge).join();
+            if (winner == hedge) {
+                hedgeWins.increment();
+                log.info("Hedge request to '{}' answered before '{}'", hedgeAdapter.getType(), adapter.getType());
+            }
+            return winner.words().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        } finally {
+            primary.cancel();
+            hedge.cancel();
+        }
+    }
+
+    /**
+     * Get the current hedge delay
+     *
+     * @return delay in milliseconds
+     */
+    public long getHedgeDelayMillis() {
+        latencyLock.lock();
+        try {
+            if (latencyCount < MIN_LATENCY_SAMPLES) {
+                return Math.max(minDelayMillis, initialDelayMillis);
+            }
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * latencyCount) - 1;
+            return Math.max(minDelayMillis, sorted[Math.max(0, Math.min(index, latencyCount - 1))]);
+        } finally {
+            latencyLock.unlock();
+        }
+    }
+
+    private Attempt start(LlmAdapter adapter, String theme, int count) {
+        CompletableFuture<List<String>> words = new CompletableFuture<>();
+        LlmCallAbort abort = new LlmCallAbort();
+        long startNanos = System.nanoTime();
+        FutureTask<List<String>> task = new FutureTask<>(() -> abort.call(() -> adapter.generateWords(theme, count))) {
+            @Override
+            protected void done() {
+                try {
+                    words.complete(get());
+                    recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                } catch (ExecutionException e) {
+                    words.completeExceptionally(e.getCause());
+                } catch (CancellationException | InterruptedException e) {
+                    words.cancel(false);
+                }
+            }
+        };
+        llmRequestTaskExecutor.execute(task);
+        return new Attempt(task, words, abort);
+    }
+
+    private LlmAdapter selectHedgeAdapter(LlmAdapter primary) {
+        // Stored words are no substitute for a slow model - only generative adapters are hedge targets
+        return llmAdapterFactory.getReadyAdapterTypes().stream()
+            .filter(type -> !type.equals(primary.getType()))
+            .map(llmAdapterFactory::findAdapter)
+            .flatMap(Optional::stream)
+            .filter(LlmAdapter::isGenerative)
+            .findFirst()
+            .orElse(primary);
+    }
+
+    private List<String> awaitResult(Attempt attempt) {
+        try {
+            return attempt.words().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private List<String> await(CompletableFuture<List<String>> words, long timeoutMillis) throws TimeoutException {
+        try {
+            return words.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            words.cancel(false);
+            throw new IllegalStateException("Interrupted while waiting for LLM response", e);
+        }
+    }
+
+    private static CompletableFuture<Attempt> firstSuccess(Attempt... attempts) {
+        CompletableFuture<Attempt> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt attempt : attempts) {
+            attempt.words().whenComplete((words, error) -> {
+                if (error == null) {
+                    winner.complete(attempt);
+                } else if (failures.incrementAndGet() == attempts.length) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("LLM call failed: " + cause.getMessage(), cause);
+    }
+
+    private void recordLatency(long millis) {
+        latencyLock.lock();
+        try {
+            latencies[nextLatency] = millis;
+            nextLatency = (nextLatency + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+        } finally {
+            latencyLock.unlock();
+        }
+    }
+
+    /**
+     * One call to an adapter; cancelling interrupts the thread making the call and
+     * closes the call's connection
+     */
+    private record Attempt(FutureTask<List<String>> task, CompletableFuture<List<String>> words,
+                           LlmCallAbort abort) {
+
+        void cancel() {
+            // Interrupt first, so the failing read is recognized as a cancellation, not a backend failure
+            if (task.cancel(true)) {
+                abort.abort();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.crocodile.service.wordprovider.llm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * LlmWordStreamer - Returns the first streamed word while the rest is still generated
+ *
+ * The stream runs on the LLM request executor. The caller gets the first complete word
+ * as soon as the model has produced it; every following word is handed to a consumer on
+ * the stream thread as it arrives. The caller therefore waits for one word instead of
+ * the whole batch. Once the stream has ended, a completion callback runs on the stream
+ * thread, so callers can tell when no more words will arrive.
+ */
+@Component
+@Slf4j
+public class LlmWordStreamer {
+
+    private final Executor llmRequestTaskExecutor;
+
+    public LlmWordStreamer(@Qualifier("llmRequestTaskExecutor") Executor llmRequestTaskExecutor) {
+        this.llmRequestTaskExecutor = llmRequestTaskExecutor;
+    }
+
+    /**
+     * Stream words and wait for the first one
+     *
+     * @param adapter the adapter to stream from
+     * @param theme the theme for word generation
+     * @param count the number of words to generate
+     * @param remainingWords receives every word after the first one, on the stream thread
+     * @param onFinished runs on the stream thread after the last word; receives the error if the
+     *                   stream ended before its first word, null otherwise
+     * @return the first generated word
+     * @throws IllegalStateException if the stream fails or ends before a word was generated
+     */
+    public String streamFirstWord(LlmAdapter adapter, String theme, int count,
+                                  Consumer<String> remainingWords, Consumer<RuntimeException> onFinished) {
+        CompletableFuture<String> firstWord = new CompletableFuture<>();
+        Runnable stream = () -> {
+            RuntimeException failure = null;
+            try {
+                List<String> words = adapter.streamWords(theme, count, word -> {
+                    if (!firstWord.complete(word)) {
+                        remainingWords.accept(word);
+                    }
+                });
+                log.debug("LLM stream for theme '{}' finished with {} words", theme, words.size());
+            } catch (RuntimeException e) {
+                if (firstWord.completeExceptionally(e)) {
+                    failure = e;
+                } else {
+                    log.warn("LLM stream for theme '{}' failed after the first word: {}", theme, e.getMessage());
+                }
+            } finally {
+                IllegalStateException empty = new IllegalStateException("LLM returned empty word list");
+                if (firstWord.completeExceptionally(empty)) {
+                    failure = empty;
+                }
+                onFinished.accept(failure);
+            }
+        };
+
+        try {
+            llmRequestTaskExecutor.execute(stream);
+        } catch (RejectedExecutionException e) {
+            log.warn("LLM request executor is saturated, streaming words for theme '{}' on the caller thread", theme);
+            stream.run();
+        }
+
+        try {
+            return firstWord.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("LLM stream failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
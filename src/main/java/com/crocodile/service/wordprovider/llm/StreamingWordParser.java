@@ -0,0 +1,85 @@
+package com.crocodile.service.wordprovider.llm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * StreamingWordParser - Incremental parsing of an LLM word list
+ *
+ * Text arrives in arbitrary chunks (tokens); a word is emitted as soon as the separator
+ * after it arrives, the last one when the stream is finished. Words are separated by
+ * new lines, or by commas if the first separator in the text is a comma (the same two
+ * formats the adapters accept for complete responses). Each word is cleaned like in a
+ * complete response: numbering ("1. Кошка") and surrounding quotes are removed.
+ */
+public class StreamingWordParser {
+
+    private final Consumer<String> onWord;
+    private final StringBuilder pending = new StringBuilder();
+    private final List<String> words = new ArrayList<>();
+    // Decided by the first separator of the text
+    private Boolean commaSeparated;
+
+    public StreamingWordParser(Consumer<String> onWord) {
+        this.onWord = onWord;
+    }
+
+    /**
+     * Consume the next chunk of generated text
+     *
+     * @param chunk text following the previous chunk
+     */
+    public void accept(String chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (c == ',' && commaSeparated == null) {
+                commaSeparated = true;
+            } else if (c == '\n' && commaSeparated == null) {
+                commaSeparated = false;
+            }
+            if (c == '\n' || (c == ',' && commaSeparated)) {
+                emit();
+            } else {
+                pending.append(c);
+            }
+        }
+    }
+
+    /**
+     * Emit the last word after the stream ended
+     *
+     * @return all words parsed from the stream
+     */
+    public List<String> finish() {
+        emit();
+        return words;
+    }
+
+    /**
+     * Clean one line or comma-separated part of an LLM response
+     *
+     * @param raw the raw part
+     * @return the word, or null if the part holds no word
+     */
+    public static String cleanWord(String raw) {
+        String trimmed = raw.trim();
+        // Skip empty lines and lines that look like numbering
+        if (trimmed.isEmpty() || trimmed.matches("^\\d+\\.?\\s*$")) {
+            return null;
+        }
+        // Remove leading numbers if present (e.g., "1. Кошка" -> "Кошка") and quotes
+        String cleaned = trimmed.replaceFirst("^\\d+\\.?\\s*", "");
+        cleaned = cleaned.replaceAll("^\"|\"$", "").trim();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    private void emit() {
+        String word = cleanWord(pending.toString());
+        pending.setLength(0);
+        if (word != null) {
+            words.add(word);
+            onWord.accept(word);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.crocodile.service.wordprovider.llm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ThemeSectionParser - Parsing of an LLM response that covers several themes
+ *
+ * The multi-theme prompt asks for one section per theme, started by a header line
+ * "### <theme>" and followed by one word per line. Headers are matched to the requested
+ * themes ignoring case, surrounding quotes and a trailing colon; sections of unknown
+ * themes and text before the first header are ignored. Words are cleaned like in a
+ * single-theme response.
+ */
+public final class ThemeSectionParser {
+
+    public static final String SECTION_MARKER = "###";
+
+    private ThemeSectionParser() {
+    }
+
+    /**
+     * Split a multi-theme response into words per theme
+     *
+     * @param text the generated text
+     * @param themes the requested themes
+     * @return words by requested theme, in request order; themes without words are missing
+     */
+    public static Map<String, List<String>> parse(String text, List<String> themes) {
+        Map<String, String> themesByKey = new HashMap<>();
+        for (String theme : themes) {
+            themesByKey.putIfAbsent(key(theme), theme);
+        }
+
+        Map<String, List<String>> wordsByTheme = new HashMap<>();
+        List<String> section = null;
+        for (String line : text.split("\\r?\\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("#")) {
+                String theme = themesByKey.get(key(trimmed.replaceFirst("^#+", "")));
+                section = theme == null ? null : wordsByTheme.computeIfAbsent(theme, k -> new ArrayList<>());
+                continue;
+            }
+            if (section != null) {
+                String word = StreamingWordParser.cleanWord(trimmed);
+                if (word != null) {
+                    section.add(word);
+                }
+            }
+        }
+
+        Map<String, List<String>> ordered = new LinkedHashMap<>();
+        for (String theme : themes) {
+            List<String> words = wordsByTheme.get(theme);
+            if (words != null && !words.isEmpty()) {
+                ordered.put(theme, words);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Format the theme list for a multi-theme prompt, one header line per theme
+     *
+     * @param themes the themes to list
+     * @return the theme headers separated by new lines
+     */
+    public static String formatThemes(List<String> themes) {
+        return String.join("\n", themes.stream().map(theme -> SECTION_MARKER + " " + theme).toList());
+    }
+
+    private static String key(String header) {
+        String key = header.trim();
+        if (key.endsWith(":")) {
+            key = key.substring(0, key.length() - 1).trim();
+        }
+        return key.replaceAll("^[\"«]|[\"»]$", "").trim().toLowerCase(Locale.ROOT);
+    }
+}
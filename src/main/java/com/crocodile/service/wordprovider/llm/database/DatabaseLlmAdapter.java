@@ -0,0 +1,59 @@
+package com.crocodile.service.wordprovider.llm.database;
+
+import com.crocodile.model.Word;
+import com.crocodile.repository.WordRepository;
+import com.crocodile.service.wordprovider.llm.LlmAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Database LLM Adapter
+ * 
+ * Serves words from the pre-filled words table through the LlmAdapter interface,
+ * so the database can close an LLM failover chain (e.g. lm-studio, yandex-gpt, database).
+ * Only themes present in the words table are supported; for other themes (e.g. custom
+ * ones) the call fails like an unavailable LLM would.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseLlmAdapter implements LlmAdapter {
+
+    private final WordRepository wordRepository;
+
+    @Override
+    public List<String> generateWords(String theme, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive, got: " + count);
+        }
+        
+        List<String> words = wordRepository.findRandomByTheme(theme, count).stream()
+            .map(Word::getWord)
+            .toList();
+        
+        if (words.isEmpty()) {
+            throw new IllegalStateException("No words in database for theme: " + theme);
+        }
+        
+        log.info("Database adapter returned {} words for theme: {} (requested: {})", words.size(), theme, count);
+        return words;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public String getType() {
+        return "database";
+    }
+
+    @Override
+    public boolean isGenerative() {
+        return false;
+    }
+}
@@ -1,7 +1,11 @@
 package com.crocodile.service.wordprovider.llm.lmstudio;
 
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
+import com.crocodile.service.wordprovider.llm.StreamingWordParser;
+import com.crocodile.service.wordprovider.llm.ThemeSectionParser;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,16 +14,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * LM Studio LLM Adapter
@@ -32,6 +42,12 @@ import java.util.List;
  * - Can be replaced with any other LLM provider without affecting the system
  * - Single responsibility: communicate with LM Studio API
  * 
+ * Multi-theme requests: generateWordsForThemes() asks for one "### <theme>" section per
+ * theme in a single request (prompts.multi-theme-template).
+ * 
+ * Streaming: streamWords() requests a server-sent event stream ("stream": true) and
+ * hands every word over as soon as the model has generated the line after it.
+ * 
  * Configuration:
  * - game.llm.lm-studio.url: LM Studio server URL
  * - game.llm.lm-studio.enabled: Enable/disable this adapter
@@ -46,6 +62,7 @@ import java.util.List;
 public class LmStudioLlmAdapter implements LlmAdapter {
 
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
 
     @Value("${game.llm.lm-studio.url:http://localhost:1234}")
     private String lmStudioUrl;
@@ -70,6 +87,9 @@ public class LmStudioLlmAdapter implements LlmAdapter {
     
     @Value("${game.llm.lm-studio.prompts.user-template}")
     private String userPromptTemplate;
+    
+    @Value("${game.llm.lm-studio.prompts.multi-theme-template}")
+    private String multiThemePromptTemplate;
 
     // Cache for availability check to avoid hammering the service
     private volatile Instant lastAvailabilityCheck = Instant.MIN;
@@ -95,44 +115,8 @@ public class LmStudioLlmAdapter implements LlmAdapter {
             // Calculate max tokens based on count (roughly 20 tokens per word/phrase + buffer)
             int dynamicMaxTokens = Math.max(maxTokens, count * 20 + 50);
             
-            // Create the request
-            ChatCompletionRequest request = new ChatCompletionRequest(
-                model,
-                List.of(
-                    new Message("system", systemPrompt),
-                    new Message("user", userPrompt)
-                ),
-                temperature,
-                dynamicMaxTokens
-            );
-            
-            // Set headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<ChatCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
-            
-            // Make the request
-            String endpoint = lmStudioUrl + "/v1/chat/completions";
-            log.debug("Sending batch request to LM Studio: {} (requesting {} words)", endpoint, count);
-            
-            ResponseEntity<ChatCompletionResponse> response = restTemplate.postForEntity(
-                endpoint,
-                httpEntity,
-                ChatCompletionResponse.class
-            );
-            
-            // Extract the words from response
-            ChatCompletionResponse responseBody = response.getBody();
-            if (responseBody == null || responseBody.getChoices() == null || responseBody.getChoices().isEmpty()) {
-                log.error("LM Studio returned empty response");
-                throw new IllegalStateException("LM Studio returned empty response");
-            }
-            
-            String generatedText = responseBody.getChoices().getFirst().getMessage().getContent();
-            if (generatedText == null || generatedText.isBlank()) {
-                log.error("LM Studio returned empty text content");
-                throw new IllegalStateException("LM Studio returned empty text content");
-            }
+            log.debug("Sending batch request to LM Studio (requesting {} words)", count);
+            String generatedText = requestCompletion(userPrompt, dynamicMaxTokens);
             
             // Parse the response - split by newlines and clean up
             List<String> words = new ArrayList<>();
@@ -186,15 +170,170 @@ public class LmStudioLlmAdapter implements LlmAdapter {
     }
 
     @Override
-    public boolean isAvailable() {
-        // Check basic configuration first
-        if (!enabled) {
-            log.debug("LM Studio adapter is disabled in configuration");
-            return false;
+    public Map<String, List<String>> generateWordsForThemes(List<String> themes, int count) {
+        log.info("LM Studio adapter generating {} words for each of {} themes: {}", count, themes.size(), themes);
+        
+        if (!isAvailable()) {
+            throw new IllegalStateException("LM Studio is not available. Check configuration and service status.");
         }
         
-        if (lmStudioUrl == null || lmStudioUrl.isBlank()) {
-            log.warn("LM Studio URL is not configured");
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive, got: " + count);
+        }
+        
+        try {
+            String userPrompt = String.format(multiThemePromptTemplate, count, ThemeSectionParser.formatThemes(themes));
+            
+            // Same token estimate as for one theme, plus a header line per theme
+            int dynamicMaxTokens = Math.max(maxTokens, themes.size() * (count * 20 + 20) + 50);
+            
+            log.debug("Sending multi-theme request to LM Studio ({} themes, {} words each)", themes.size(), count);
+            String generatedText = requestCompletion(userPrompt, dynamicMaxTokens);
+            
+            Map<String, List<String>> wordsByTheme = ThemeSectionParser.parse(generatedText, themes);
+            if (wordsByTheme.isEmpty()) {
+                log.error("Failed to parse any theme section from LM Studio response: {}", generatedText);
+                throw new IllegalStateException("Failed to parse theme sections from LM Studio response");
+            }
+            
+            log.info("LM Studio generated words for {} of {} themes", wordsByTheme.size(), themes.size());
+            return wordsByTheme;
+            
+        } catch (RestClientException e) {
+            log.error("Failed to communicate with LM Studio: {}", e.getMessage(), e);
+            throw new IllegalStateException("Failed to communicate with LM Studio: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> streamWords(String theme, int count, Consumer<String> onWord) {
+        log.info("LM Studio adapter streaming {} words for theme: {}", count, theme);
+        
+        if (!isAvailable()) {
+            throw new IllegalStateException("LM Studio is not available. Check configuration and service status.");
+        }
+        
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive, got: " + count);
+        }
+        
+        try {
+            String userPrompt = String.format(userPromptTemplate, count, theme);
+            int dynamicMaxTokens = Math.max(maxTokens, count * 20 + 50);
+            
+            ChatCompletionRequest request = new ChatCompletionRequest(
+                model,
+                List.of(
+                    new Message("system", systemPrompt),
+                    new Message("user", userPrompt)
+                ),
+                temperature,
+                dynamicMaxTokens,
+                true
+            );
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+            HttpEntity<ChatCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
+            
+            String endpoint = lmStudioUrl + "/v1/chat/completions";
+            log.debug("Sending streaming request to LM Studio: {} (requesting {} words)", endpoint, count);
+            
+            StreamingWordParser parser = new StreamingWordParser(onWord);
+            restTemplate.execute(endpoint, HttpMethod.POST, restTemplate.httpEntityCallback(httpEntity), response -> {
+                // Server-sent events: "data: {chunk}" lines, terminated by "data: [DONE]"
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if (data.equals("[DONE]")) {
+                        break;
+                    }
+                    ChatCompletionChunk chunk = objectMapper.readValue(data, ChatCompletionChunk.class);
+                    if (chunk.getChoices() == null) {
+                        continue;
+                    }
+                    for (ChunkChoice choice : chunk.getChoices()) {
+                        if (choice.getDelta() != null && choice.getDelta().getContent() != null) {
+                            parser.accept(choice.getDelta().getContent());
+                        }
+                    }
+                }
+                return null;
+            });
+            
+            List<String> words = parser.finish();
+            if (words.isEmpty()) {
+                log.error("Failed to parse any words from LM Studio stream");
+                throw new IllegalStateException("Failed to parse words from LM Studio response");
+            }
+            
+            log.info("LM Studio streamed {} words for theme: {} (requested: {})", words.size(), theme, count);
+            return words;
+            
+        } catch (RestClientException e) {
+            log.error("Failed to communicate with LM Studio: {}", e.getMessage(), e);
+            throw new IllegalStateException("Failed to communicate with LM Studio: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Send a non-streaming chat completion request
+     * 
+     * @param userPrompt the user prompt, sent after the system prompt
+     * @param requestMaxTokens maximum tokens to generate
+     * @return the generated text
+     */
+    private String requestCompletion(String userPrompt, int requestMaxTokens) {
+        // Create the request
+        ChatCompletionRequest request = new ChatCompletionRequest(
+            model,
+            List.of(
+                new Message("system", systemPrompt),
+                new Message("user", userPrompt)
+            ),
+            temperature,
+            requestMaxTokens,
+            false
+        );
+        
+        // Set headers
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<ChatCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
+        
+        // Make the request
+        String endpoint = lmStudioUrl + "/v1/chat/completions";
+        ResponseEntity<ChatCompletionResponse> response = restTemplate.postForEntity(
+            endpoint,
+            httpEntity,
+            ChatCompletionResponse.class
+        );
+        
+        // Extract the text from response
+        ChatCompletionResponse responseBody = response.getBody();
+        if (responseBody == null || responseBody.getChoices() == null || responseBody.getChoices().isEmpty()) {
+            log.error("LM Studio returned empty response");
+            throw new IllegalStateException("LM Studio returned empty response");
+        }
+        
+        String generatedText = responseBody.getChoices().getFirst().getMessage().getContent();
+        if (generatedText == null || generatedText.isBlank()) {
+            log.error("LM Studio returned empty text content");
+            throw new IllegalStateException("LM Studio returned empty text content");
+        }
+        return generatedText;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        // Check basic configuration first
+        if (!isConfigured()) {
             return false;
         }
         
@@ -231,6 +370,20 @@ public class LmStudioLlmAdapter implements LlmAdapter {
         }
     }
 
+    @Override
+    public boolean isConfigured() {
+        if (!enabled) {
+            log.debug("LM Studio adapter is disabled in configuration");
+            return false;
+        }
+        
+        if (lmStudioUrl == null || lmStudioUrl.isBlank()) {
+            log.warn("LM Studio URL is not configured");
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public String getType() {
         return "lm-studio";
@@ -250,6 +403,7 @@ public class LmStudioLlmAdapter implements LlmAdapter {
         private Double temperature;
         @JsonProperty("max_tokens")
         private Integer maxTokens;
+        private Boolean stream;
     }
     
     /**
@@ -283,4 +437,39 @@ public class LmStudioLlmAdapter implements LlmAdapter {
         private Message message;
         private Integer index;
     }
+    
+    /**
+     * Chunk DTO of a streamed chat completion
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ChatCompletionChunk {
+        private List<ChunkChoice> choices;
+    }
+    
+    /**
+     * Choice DTO of a streamed chunk, carrying the next piece of generated text
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ChunkChoice {
+        private Delta delta;
+        private Integer index;
+    }
+    
+    /**
+     * Delta DTO with the text added by a streamed chunk
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Delta {
+        private String role;
+        private String content;
+    }
 }
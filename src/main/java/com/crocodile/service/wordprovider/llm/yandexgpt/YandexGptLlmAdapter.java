@@ -1,6 +1,9 @@
 package com.crocodile.service.wordprovider.llm.yandexgpt;
 
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
+import com.crocodile.service.wordprovider.llm.StreamingWordParser;
+import com.crocodile.service.wordprovider.llm.ThemeSectionParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,16 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Yandex GPT LLM Adapter
@@ -25,6 +34,12 @@ import java.util.List;
  * Integrates with Yandex GPT API for word generation using IAM token authentication.
  * Uses JWT-based authentication with automatic token refresh.
  *
+ * Multi-theme requests: generateWordsForThemes() asks for one "### <theme>" section per
+ * theme in a single request (prompts.multi-theme-template).
+ *
+ * Streaming: streamWords() sets completionOptions.stream, the API then answers with one
+ * JSON object per line, each carrying the whole text generated so far.
+ *
  * Configuration:
  * - game.llm.yandex-gpt.authorized-key-path: Path to authorized key JSON file
  * - game.llm.yandex-gpt.folder-id: Yandex Cloud folder ID
@@ -40,6 +55,7 @@ public class YandexGptLlmAdapter implements LlmAdapter {
 
     private final RestTemplate restTemplate;
     private final YandexIamTokenProvider iamTokenProvider;
+    private final ObjectMapper objectMapper;
     
     @Value("${game.llm.yandex-gpt.folder-id:}")
     private String folderId;
@@ -64,6 +80,9 @@ public class YandexGptLlmAdapter implements LlmAdapter {
     
     @Value("${game.llm.yandex-gpt.prompts.user-template}")
     private String userPromptTemplate;
+    
+    @Value("${game.llm.yandex-gpt.prompts.multi-theme-template}")
+    private String multiThemePromptTemplate;
 
     // Cache for availability check to avoid hammering the service
     private volatile Instant lastAvailabilityCheck = Instant.MIN;
@@ -73,9 +92,11 @@ public class YandexGptLlmAdapter implements LlmAdapter {
     // Constructor with optional IAM token provider
     public YandexGptLlmAdapter(RestTemplate restTemplate, 
                                 @org.springframework.beans.factory.annotation.Autowired(required = false) 
-                                YandexIamTokenProvider iamTokenProvider) {
+                                YandexIamTokenProvider iamTokenProvider,
+                                ObjectMapper objectMapper) {
         this.restTemplate = restTemplate;
         this.iamTokenProvider = iamTokenProvider;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -97,57 +118,8 @@ public class YandexGptLlmAdapter implements LlmAdapter {
             // Calculate max tokens based on count (roughly 20 tokens per word/phrase + buffer)
             int dynamicMaxTokens = Math.max(maxTokens, count * 20 + 50);
             
-            // Strip quotes from folderId if present (common when env vars have quoted values)
-            String cleanFolderId = folderId.replaceAll("^\"|\"$", "");
-            
-            // Construct modelUri in the format: gpt://{folderId}/{model}/latest
-            String modelUri = String.format("gpt://%s/%s/latest", cleanFolderId, model);
-            
-            // Create the request
-            YandexCompletionRequest request = new YandexCompletionRequest(
-                modelUri,
-                new CompletionOptions(false, temperature, dynamicMaxTokens),
-                List.of(
-                    new Message("system", systemPrompt),
-                    new Message("user", userPrompt)
-                )
-            );
-            
-            // Set headers with IAM token authorization
-            // Yandex Cloud IAM Token format: "Authorization: Bearer <IAM_token>"
-            String iamToken = iamTokenProvider.getToken();
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + iamToken);
-            HttpEntity<YandexCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
-            
-            // Make the request
-            log.debug("Sending batch request to Yandex GPT: {} (requesting {} words)", yandexGptUrl, count);
-
-            ResponseEntity<YandexCompletionResponse> response = restTemplate.postForEntity(
-                yandexGptUrl,
-                httpEntity,
-                YandexCompletionResponse.class
-            );
-
-            // Extract the words from response
-            YandexCompletionResponse responseBody = response.getBody();
-            if (responseBody == null || responseBody.getResult() == null ||
-                responseBody.getResult().getAlternatives() == null ||
-                responseBody.getResult().getAlternatives().isEmpty()) {
-                log.error("Yandex GPT returned empty response");
-                throw new IllegalStateException("Yandex GPT returned empty response");
-            }
-
-            Alternative firstAlternative = responseBody.getResult().getAlternatives().getFirst();
-            if (firstAlternative.getMessage() == null ||
-                firstAlternative.getMessage().getText() == null ||
-                firstAlternative.getMessage().getText().isBlank()) {
-                log.error("Yandex GPT returned empty text content");
-                throw new IllegalStateException("Yandex GPT returned empty text content");
-            }
-
-            String generatedText = firstAlternative.getMessage().getText();
+            log.debug("Sending batch request to Yandex GPT (requesting {} words)", count);
+            String generatedText = requestCompletion(userPrompt, dynamicMaxTokens);
 
             // Parse the response - split by newlines and clean up
             List<String> words = new ArrayList<>();
@@ -193,17 +165,7 @@ public class YandexGptLlmAdapter implements LlmAdapter {
 
         } catch (RestClientException e) {
             log.error("Failed to communicate with Yandex GPT: {}", e.getMessage(), e);
-            
-            // If 401 Unauthorized, try to force refresh the IAM token
-            if (e.getMessage() != null && e.getMessage().contains("401")) {
-                log.warn("Received 401 Unauthorized, forcing IAM token refresh");
-                try {
-                    iamTokenProvider.forceRefresh();
-                } catch (Exception refreshException) {
-                    log.error("Failed to refresh IAM token: {}", refreshException.getMessage());
-                }
-            }
-            
+            refreshTokenIfUnauthorized(e);
             throw new IllegalStateException("Failed to communicate with Yandex GPT: " + e.getMessage(), e);
         } catch (Exception e) {
             log.error("Unexpected error during batch word generation: {}", e.getMessage(), e);
@@ -212,20 +174,195 @@ public class YandexGptLlmAdapter implements LlmAdapter {
     }
 
     @Override
-    public boolean isAvailable() {
-        // Check basic configuration first
-        if (!enabled) {
-            log.debug("Yandex GPT adapter is disabled in configuration");
-            return false;
+    public Map<String, List<String>> generateWordsForThemes(List<String> themes, int count) {
+        log.info("Yandex GPT adapter generating {} words for each of {} themes: {}", count, themes.size(), themes);
+        
+        if (!isAvailable()) {
+            throw new IllegalStateException("Yandex GPT is not available. Check configuration (authorized key path and folder ID).");
         }
         
-        if (iamTokenProvider == null) {
-            log.warn("Yandex GPT IAM token provider is not available. Check authorized key configuration.");
-            return false;
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive, got: " + count);
         }
         
-        if (folderId == null || folderId.isBlank()) {
-            log.warn("Yandex GPT folder ID is not configured");
+        try {
+            String userPrompt = String.format(multiThemePromptTemplate, count, ThemeSectionParser.formatThemes(themes));
+            
+            // Same token estimate as for one theme, plus a header line per theme
+            int dynamicMaxTokens = Math.max(maxTokens, themes.size() * (count * 20 + 20) + 50);
+            
+            log.debug("Sending multi-theme request to Yandex GPT ({} themes, {} words each)", themes.size(), count);
+            String generatedText = requestCompletion(userPrompt, dynamicMaxTokens);
+            
+            Map<String, List<String>> wordsByTheme = ThemeSectionParser.parse(generatedText, themes);
+            if (wordsByTheme.isEmpty()) {
+                log.error("Failed to parse any theme section from Yandex GPT response: {}", generatedText);
+                throw new IllegalStateException("Failed to parse theme sections from Yandex GPT response");
+            }
+            
+            log.info("Yandex GPT generated words for {} of {} themes", wordsByTheme.size(), themes.size());
+            return wordsByTheme;
+            
+        } catch (RestClientException e) {
+            log.error("Failed to communicate with Yandex GPT: {}", e.getMessage(), e);
+            refreshTokenIfUnauthorized(e);
+            throw new IllegalStateException("Failed to communicate with Yandex GPT: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> streamWords(String theme, int count, Consumer<String> onWord) {
+        log.info("Yandex GPT adapter streaming {} words for theme: {}", count, theme);
+        
+        if (!isAvailable()) {
+            throw new IllegalStateException("Yandex GPT is not available. Check configuration (authorized key path and folder ID).");
+        }
+        
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive, got: " + count);
+        }
+        
+        try {
+            String userPrompt = String.format(userPromptTemplate, count, theme);
+            int dynamicMaxTokens = Math.max(maxTokens, count * 20 + 50);
+            String cleanFolderId = folderId.replaceAll("^\"|\"$", "");
+            String modelUri = String.format("gpt://%s/%s/latest", cleanFolderId, model);
+            
+            YandexCompletionRequest request = new YandexCompletionRequest(
+                modelUri,
+                new CompletionOptions(true, temperature, dynamicMaxTokens),
+                List.of(
+                    new Message("system", systemPrompt),
+                    new Message("user", userPrompt)
+                )
+            );
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("Authorization", "Bearer " + iamTokenProvider.getToken());
+            HttpEntity<YandexCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
+            
+            log.debug("Sending streaming request to Yandex GPT: {} (requesting {} words)", yandexGptUrl, count);
+            
+            StreamingWordParser parser = new StreamingWordParser(onWord);
+            restTemplate.execute(yandexGptUrl, HttpMethod.POST, restTemplate.httpEntityCallback(httpEntity), response -> {
+                // Every line is a complete response with the text generated so far
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                int seenLength = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    YandexCompletionResponse partial = objectMapper.readValue(line, YandexCompletionResponse.class);
+                    if (partial.getResult() == null || partial.getResult().getAlternatives() == null
+                        || partial.getResult().getAlternatives().isEmpty()) {
+                        continue;
+                    }
+                    Message message = partial.getResult().getAlternatives().getFirst().getMessage();
+                    if (message != null && message.getText() != null && message.getText().length() > seenLength) {
+                        parser.accept(message.getText().substring(seenLength));
+                        seenLength = message.getText().length();
+                    }
+                }
+                return null;
+            });
+            
+            List<String> words = parser.finish();
+            if (words.isEmpty()) {
+                log.error("Failed to parse any words from Yandex GPT stream");
+                throw new IllegalStateException("Failed to parse words from Yandex GPT response");
+            }
+            
+            log.info("Yandex GPT streamed {} words for theme: {} (requested: {})", words.size(), theme, count);
+            return words;
+            
+        } catch (RestClientException e) {
+            log.error("Failed to communicate with Yandex GPT: {}", e.getMessage(), e);
+            refreshTokenIfUnauthorized(e);
+            throw new IllegalStateException("Failed to communicate with Yandex GPT: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Send a non-streaming completion request
+     *
+     * @param userPrompt the user prompt, sent after the system prompt
+     * @param requestMaxTokens maximum tokens to generate
+     * @return the generated text
+     */
+    private String requestCompletion(String userPrompt, int requestMaxTokens) {
+        // Strip quotes from folderId if present (common when env vars have quoted values)
+        String cleanFolderId = folderId.replaceAll("^\"|\"$", "");
+
+        // Construct modelUri in the format: gpt://{folderId}/{model}/latest
+        String modelUri = String.format("gpt://%s/%s/latest", cleanFolderId, model);
+
+        // Create the request
+        YandexCompletionRequest request = new YandexCompletionRequest(
+            modelUri,
+            new CompletionOptions(false, temperature, requestMaxTokens),
+            List.of(
+                new Message("system", systemPrompt),
+                new Message("user", userPrompt)
+            )
+        );
+
+        // Set headers with IAM token authorization
+        // Yandex Cloud IAM Token format: "Authorization: Bearer <IAM_token>"
+        String iamToken = iamTokenProvider.getToken();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + iamToken);
+        HttpEntity<YandexCompletionRequest> httpEntity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<YandexCompletionResponse> response = restTemplate.postForEntity(
+            yandexGptUrl,
+            httpEntity,
+            YandexCompletionResponse.class
+        );
+
+        // Extract the text from response
+        YandexCompletionResponse responseBody = response.getBody();
+        if (responseBody == null || responseBody.getResult() == null ||
+            responseBody.getResult().getAlternatives() == null ||
+            responseBody.getResult().getAlternatives().isEmpty()) {
+            log.error("Yandex GPT returned empty response");
+            throw new IllegalStateException("Yandex GPT returned empty response");
+        }
+
+        Alternative firstAlternative = responseBody.getResult().getAlternatives().getFirst();
+        if (firstAlternative.getMessage() == null ||
+            firstAlternative.getMessage().getText() == null ||
+            firstAlternative.getMessage().getText().isBlank()) {
+            log.error("Yandex GPT returned empty text content");
+            throw new IllegalStateException("Yandex GPT returned empty text content");
+        }
+
+        return firstAlternative.getMessage().getText();
+    }
+
+    /**
+     * Force an IAM token refresh if the request failed with 401 Unauthorized
+     *
+     * @param e the request failure
+     */
+    private void refreshTokenIfUnauthorized(RestClientException e) {
+        if (e.getMessage() != null && e.getMessage().contains("401")) {
+            log.warn("Received 401 Unauthorized, forcing IAM token refresh");
+            try {
+                iamTokenProvider.forceRefresh();
+            } catch (Exception refreshException) {
+                log.error("Failed to refresh IAM token: {}", refreshException.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        // Check basic configuration first
+        if (!isConfigured()) {
             return false;
         }
         
@@ -249,6 +386,25 @@ public class YandexGptLlmAdapter implements LlmAdapter {
         return true;
     }
 
+    @Override
+    public boolean isConfigured() {
+        if (!enabled) {
+            log.debug("Yandex GPT adapter is disabled in configuration");
+            return false;
+        }
+        
+        if (iamTokenProvider == null) {
+            log.warn("Yandex GPT IAM token provider is not available. Check authorized key configuration.");
+            return false;
+        }
+        
+        if (folderId == null || folderId.isBlank()) {
+            log.warn("Yandex GPT folder ID is not configured");
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public String getType() {
         return "yandex-gpt";
@@ -297,6 +453,7 @@ public class YandexGptLlmAdapter implements LlmAdapter {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
     static class YandexCompletionResponse {
         private Result result;
     }
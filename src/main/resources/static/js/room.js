@@ -1,6 +1,14 @@
 let currentPlayerId = null;
 let isLeader = false;
-let pollingInterval = null;
+let pollingActive = false;
+let pollingGeneration = 0;
+let lastStateVersion = null;
+let currentRound = null;
+let eventSource = null;
+let streamRetryTimeout = null;
+let gameSocket = null;
+let lastSocketAction = null;
+let leaving = false;
 
 document.addEventListener('DOMContentLoaded', () => {
     setupJoinForm();
@@ -47,8 +55,8 @@ async function joinRoom(playerName) {
         document.getElementById('joinSection').style.display = 'none';
         document.getElementById('gameSection').style.display = 'block';
         
-        // Start polling for room state
-        startPolling();
+        // Subscribe to room state updates
+        startUpdates();
         
         // Setup game controls
         setupGameControls();
@@ -98,6 +106,9 @@ async function loadRoomState() {
 }
 
 function updateUI(roomState) {
+    lastStateVersion = roomState.stateVersion;
+    currentRound = roomState.round;
+    
     // Update theme
     document.getElementById('theme').textContent = roomState.theme;
     
@@ -204,6 +215,10 @@ function updateWinnerButtons(players) {
 }
 
 async function generateNewWord() {
+    if (sendOverSocket({ type: 'new-word' })) {
+        return;
+    }
+    
     try {
         const response = await fetch(`/api/rooms/${ROOM_CODE}/new-word`, {
             method: 'POST'
@@ -214,21 +229,29 @@ async function generateNewWord() {
         }
         
         const data = await response.json();
-        document.getElementById('wordDisplay').textContent = data.word;
+        showNewWord(data);
     } catch (error) {
         console.error('Error generating word:', error);
         alert('Не удалось сгенерировать слово');
     }
 }
 
+function showNewWord(data) {
+    document.getElementById('wordDisplay').textContent = data.word;
+}
+
 async function submitGuess(guess) {
+    if (sendOverSocket({ type: 'guess', guess: guess, round: currentRound })) {
+        return;
+    }
+    
     try {
         const response = await fetch(`/api/rooms/${ROOM_CODE}/guess`, {
             method: 'POST',
             headers: {
                 'Content-Type': 'application/json'
             },
-            body: JSON.stringify({ guess: guess })
+            body: JSON.stringify({ guess: guess, round: currentRound })
         });
         
         if (!response.ok) {
@@ -236,31 +259,39 @@ async function submitGuess(guess) {
         }
         
         const data = await response.json();
-        
-        const feedback = document.getElementById('guess-feedback');
-        feedback.textContent = data.message;
-        feedback.className = 'feedback-message show';
+        showGuessResult(data);
         
         if (data.correct) {
-            feedback.classList.add('success');
-            document.getElementById('guess').value = '';
-            
             // Reload state immediately
             await loadRoomState();
-        } else {
-            feedback.classList.add('error');
         }
-        
-        setTimeout(() => {
-            feedback.classList.remove('show');
-        }, 3000);
-        
     } catch (error) {
         console.error('Error submitting guess:', error);
     }
 }
 
+function showGuessResult(data) {
+    const feedback = document.getElementById('guess-feedback');
+    feedback.textContent = data.message;
+    feedback.className = 'feedback-message show';
+    
+    if (data.correct) {
+        feedback.classList.add('success');
+        document.getElementById('guess').value = '';
+    } else {
+        feedback.classList.add('error');
+    }
+    
+    setTimeout(() => {
+        feedback.classList.remove('show');
+    }, 3000);
+}
+
 async function assignWinner(winnerId) {
+    if (sendOverSocket({ type: 'assign-winner', winnerId: winnerId })) {
+        return;
+    }
+    
     try {
         const response = await fetch(`/api/rooms/${ROOM_CODE}/assign-winner`, {
             method: 'POST',
@@ -290,12 +321,19 @@ async function leaveRoom() {
         return;
     }
     
+    if (sendOverSocket({ type: 'leave' })) {
+        leaving = true;
+        // Navigate when the server confirms, or give up waiting after 2 seconds
+        setTimeout(() => { window.location.href = '/'; }, 2000);
+        return;
+    }
+    
     try {
         await fetch(`/api/rooms/${ROOM_CODE}/leave`, {
             method: 'POST'
         });
         
-        stopPolling();
+        stopUpdates();
         window.location.href = '/';
     } catch (error) {
         console.error('Error leaving room:', error);
@@ -303,18 +341,183 @@ async function leaveRoom() {
     }
 }
 
-function startPolling() {
-    // Initial load
-    loadRoomState();
+function startUpdates() {
+    if (window.WebSocket) {
+        openSocket();
+    } else {
+        startFallbackUpdates();
+    }
+}
+
+function startFallbackUpdates() {
+    if (window.EventSource) {
+        openStream();
+    } else {
+        startPolling();
+    }
+}
+
+function stopUpdates() {
+    closeSocket();
+    stopStream();
+    stopPolling();
+}
+
+function openSocket() {
+    closeSocket();
+    
+    const protocol = window.location.protocol === 'https:' ? 'wss:' : 'ws:';
+    const socket = new WebSocket(`${protocol}//${window.location.host}/ws/rooms/${ROOM_CODE}`);
+    gameSocket = socket;
+    
+    socket.onopen = () => {
+        // Game channel delivers state itself
+        stopStream();
+        stopPolling();
+    };
+    
+    socket.onmessage = (e) => handleSocketMessage(JSON.parse(e.data));
     
-    // Poll every 2 seconds
-    pollingInterval = setInterval(loadRoomState, 2000);
+    socket.onclose = () => {
+        if (gameSocket !== socket) {
+            return;
+        }
+        gameSocket = null;
+        
+        if (leaving) {
+            window.location.href = '/';
+        } else if (!document.hidden) {
+            // Channel dropped - fall back to SSE / polling
+            startFallbackUpdates();
+        }
+    };
+}
+
+function closeSocket() {
+    if (gameSocket) {
+        const socket = gameSocket;
+        gameSocket = null;
+        socket.close();
+    }
+}
+
+function sendOverSocket(message) {
+    if (!gameSocket || gameSocket.readyState !== WebSocket.OPEN) {
+        return false;
+    }
+    lastSocketAction = message.type;
+    gameSocket.send(JSON.stringify(message));
+    return true;
+}
+
+function handleSocketMessage(message) {
+    switch (message.type) {
+        case 'state':
+            updateUI(message.payload);
+            break;
+        case 'guess-result':
+            showGuessResult(message.payload);
+            break;
+        case 'new-word':
+            showNewWord(message.payload);
+            break;
+        case 'assign-winner':
+            alert(message.payload.message);
+            break;
+        case 'left':
+            window.location.href = '/';
+            break;
+        case 'error':
+            handleSocketError(message.payload);
+            break;
+        default:
+            console.warn('Unknown game channel message:', message.type);
+    }
+}
+
+function handleSocketError(error) {
+    console.error('Game channel error:', error.message);
+    
+    if (lastSocketAction === 'new-word') {
+        alert('Не удалось сгенерировать слово');
+    } else if (lastSocketAction === 'assign-winner') {
+        alert('Не удалось назначить победителя');
+    }
+}
+
+function openStream() {
+    stopStream();
+    
+    eventSource = new EventSource(`/api/rooms/${ROOM_CODE}/stream`);
+    
+    eventSource.addEventListener('state', (e) => {
+        // Stream is alive again - polling is no longer needed
+        stopPolling();
+        updateUI(JSON.parse(e.data));
+    });
+    
+    eventSource.onerror = () => {
+        // Stream dropped - poll until it is back
+        startPolling();
+        
+        // The browser reconnects on its own unless the connection was closed for good
+        if (eventSource && eventSource.readyState === EventSource.CLOSED) {
+            eventSource = null;
+            streamRetryTimeout = setTimeout(openStream, 30000);
+        }
+    };
+}
+
+function stopStream() {
+    if (streamRetryTimeout) {
+        clearTimeout(streamRetryTimeout);
+        streamRetryTimeout = null;
+    }
+    if (eventSource) {
+        eventSource.close();
+        eventSource = null;
+    }
+}
+
+function startPolling() {
+    if (pollingActive) {
+        return;
+    }
+    pollingActive = true;
+    longPoll(++pollingGeneration);
 }
 
 function stopPolling() {
-    if (pollingInterval) {
-        clearInterval(pollingInterval);
-        pollingInterval = null;
+    pollingActive = false;
+    pollingGeneration++;
+}
+
+async function longPoll(generation) {
+    while (generation === pollingGeneration) {
+        try {
+            if (lastStateVersion === null) {
+                await loadRoomState();
+                if (lastStateVersion === null) {
+                    throw new Error('Failed to load room state');
+                }
+                continue;
+            }
+            
+            // Server holds the request until the state changes or answers 204 on timeout
+            const response = await fetch(`/api/rooms/${ROOM_CODE}/state?sinceVersion=${lastStateVersion}`);
+            if (generation !== pollingGeneration) {
+                break;
+            }
+            
+            if (response.status === 200) {
+                updateUI(await response.json());
+            } else if (response.status !== 204) {
+                throw new Error('Failed to load room state');
+            }
+        } catch (error) {
+            console.error('Error waiting for room state:', error);
+            await new Promise(resolve => setTimeout(resolve, 2000));
+        }
     }
 }
 
@@ -328,12 +531,12 @@ function showJoinError(message) {
     }, 5000);
 }
 
-// Stop polling when page is hidden
+// Stop updates when page is hidden
 document.addEventListener('visibilitychange', () => {
     if (document.hidden) {
-        stopPolling();
+        stopUpdates();
     } else if (currentPlayerId) {
-        startPolling();
+        startUpdates();
     }
 });
 
@@ -0,0 +1,52 @@
+package com.crocodile.domain;
+
+import com.crocodile.util.RoomCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomCodeTest {
+
+    @Test
+    void testPacked_roundTrip() {
+        for (int i = 0; i < 1000; i++) {
+            RoomCode code = RoomCodeGenerator.generate(6);
+            RoomCode unpacked = RoomCode.ofPacked(code.getPacked());
+            assertEquals(code.getValue(), unpacked.getValue());
+            assertEquals(code, unpacked);
+        }
+    }
+
+    @Test
+    void testPacked_fiveBitsPerCharacter() {
+        assertEquals(0, RoomCode.of("AAAAAA").getPacked());
+        assertEquals(1, RoomCode.of("AAAAAB").getPacked());
+        assertEquals(1 << 25, RoomCode.of("BAAAAA").getPacked());
+        assertEquals((1 << 30) - 1, RoomCode.of("999999").getPacked());
+    }
+
+    @Test
+    void testOf_normalizesCaseAndWhitespace() {
+        RoomCode code = RoomCode.of("  abc234 ");
+        assertEquals("ABC234", code.getValue());
+        assertEquals(RoomCode.of("ABC234"), code);
+        assertEquals(RoomCode.of("ABC234").hashCode(), code.hashCode());
+    }
+
+    @Test
+    void testOf_rejectsInvalidCodes() {
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of(null));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("   "));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("ABC23"));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("ABC2345"));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("ABCDE1"));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("ABCDEO"));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.of("ABCDЕ2"));
+    }
+
+    @Test
+    void testOfPacked_rejectsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.ofPacked(-1));
+        assertThrows(IllegalArgumentException.class, () -> RoomCode.ofPacked(1 << 30));
+    }
+}
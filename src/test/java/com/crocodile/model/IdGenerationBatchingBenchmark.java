@@ -0,0 +1,223 @@
+package com.crocodile.model;
+
+import com.crocodile.domain.RoomCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts of bulk inserts with pooled sequences and with IDENTITY
+ *
+ * Inserts the same number of players and game history rows twice in one transaction:
+ * once through the real entities (pooled sequences, allocationSize 50) and once through
+ * copies of them mapped with GenerationType.IDENTITY. Both runs use the Hibernate and
+ * driver settings of application.yml (hibernate.jdbc.batch_size, ordered inserts,
+ * reWriteBatchedInserts). Hibernate statistics count the prepared statements, including
+ * sequence calls: IDENTITY needs one insert per row, while pooled sequences need one
+ * sequence call per 50 rows and send the inserts in batches of 50 through a single
+ * prepared statement. The transaction is rolled back.
+ *
+ * A single join still inserts one row in its own transaction; batching pays off for
+ * flushes that insert many rows, e.g. bulk imports.
+ *
+ * The class name does not match the surefire includes, so the benchmark is not part of
+ * the regular test run. It starts PostgreSQL with Testcontainers (Docker required):
+ *   mvn test -Dtest=IdGenerationBatchingBenchmark [-Dbenchmark.rows=1000]
+ * or runs against an existing empty database (the schema is created by Liquibase):
+ *   -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/bench
+ *   -Dbenchmark.jdbc-username=... -Dbenchmark.jdbc-password=...
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IdGenerationBatchingBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1000);
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        String username = System.getProperty("benchmark.jdbc-username", "postgres");
+        String password = System.getProperty("benchmark.jdbc-password", "");
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        String url = jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        String user = username;
+        String pass = password;
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> user);
+        registry.add("spring.datasource.password", () -> pass);
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void comparePooledSequencesWithIdentity() {
+        Room room = Room.builder()
+            .code(RoomCode.of("BNCH23"))
+            .theme("benchmark")
+            .wordProviderType("database")
+            .build();
+        entityManager.persist(room);
+        Player leader = Player.builder().roomId(room.getId()).sessionId("leader").name("leader").build();
+        entityManager.persist(leader);
+        entityManager.flush();
+
+        // Unmeasured first pass, so the JIT warm-up does not count against the first mapping
+        measure(i -> entityManager.persist(
+            Player.builder().roomId(room.getId()).sessionId("warm-up-" + i).name("player" + i).build()));
+        measure(i -> entityManager.persist(new IdentityPlayer(room.getId(), "warm-up-" + i, "player" + i)));
+
+        Result pooledPlayers = measure(i -> entityManager.persist(
+            Player.builder().roomId(room.getId()).sessionId("pooled-" + i).name("player" + i).build()));
+        Result identityPlayers = measure(i -> entityManager.persist(
+            new IdentityPlayer(room.getId(), "identity-" + i, "player" + i)));
+        Result pooledHistory = measure(i -> entityManager.persist(
+            GameHistory.builder().roomId(room.getId()).word("word" + i).leaderId(leader.getId()).build()));
+        Result identityHistory = measure(i -> entityManager.persist(
+            new IdentityGameHistory(room.getId(), "word" + i, leader.getId())));
+
+        System.out.printf("%d rows per run%n", ROWS);
+        System.out.printf("  players:      pooled sequence %4d statements %5d ms | identity %4d statements %5d ms%n",
+                          pooledPlayers.statements(), pooledPlayers.millis(),
+                          identityPlayers.statements(), identityPlayers.millis());
+        System.out.printf("  game_history: pooled sequence %4d statements %5d ms | identity %4d statements %5d ms%n",
+                          pooledHistory.statements(), pooledHistory.millis(),
+                          identityHistory.statements(), identityHistory.millis());
+
+        assertTrue(identityPlayers.statements() >= ROWS);
+        assertTrue(pooledPlayers.statements() < identityPlayers.statements() / 10);
+        assertTrue(pooledHistory.statements() < identityHistory.statements() / 10);
+    }
+
+    /**
+     * Persist and flush ROWS entities
+     *
+     * @return prepared statements and elapsed time
+     */
+    private Result measure(IntConsumer persistRow) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            persistRow.accept(i);
+        }
+        entityManager.flush();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        entityManager.clear();
+        return new Result(statistics.getPrepareStatementCount(), elapsedMillis);
+    }
+
+    private record Result(long statements, long millis) {
+    }
+
+    /**
+     * Player row with the IDENTITY mapping used before pooled sequences
+     */
+    @Entity
+    @Table(name = "players")
+    static class IdentityPlayer {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "room_id", nullable = false)
+        private Long roomId;
+
+        @Column(name = "session_id", nullable = false)
+        private String sessionId;
+
+        @Column(nullable = false)
+        private String name;
+
+        @Column(nullable = false)
+        private Integer score = 0;
+
+        @Column(name = "is_leader", nullable = false)
+        private Boolean isLeader = false;
+
+        @Column(name = "joined_at", nullable = false)
+        private LocalDateTime joinedAt = LocalDateTime.now();
+
+        @Column(name = "is_active", nullable = false)
+        private Boolean isActive = true;
+
+        protected IdentityPlayer() {
+        }
+
+        IdentityPlayer(Long roomId, String sessionId, String name) {
+            this.roomId = roomId;
+            this.sessionId = sessionId;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Game history row with the IDENTITY mapping used before pooled sequences
+     */
+    @Entity
+    @Table(name = "game_history")
+    static class IdentityGameHistory {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "room_id", nullable = false)
+        private Long roomId;
+
+        @Column(nullable = false)
+        private String word;
+
+        @Column(name = "leader_id", nullable = false)
+        private Long leaderId;
+
+        @Column(name = "start_time", nullable = false)
+        private LocalDateTime startTime = LocalDateTime.now();
+
+        protected IdentityGameHistory() {
+        }
+
+        IdentityGameHistory(Long roomId, String word, Long leaderId) {
+            this.roomId = roomId;
+            this.word = word;
+            this.leaderId = leaderId;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.domain.RoomCode;
+import com.crocodile.model.Room;
+import com.crocodile.model.RoomStatus;
+import com.crocodile.service.realtime.RoomChangeNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RoomEngine
+ *
+ * Tests cover:
+ * - Restoring dirty state after a failed flush
+ * - Basing each flush on the version loaded or flushed before
+ * - Discarding and reloading a room whose row changed behind the engine
+ * - Retrying an update that lost a race with eviction
+ * - Keeping dirty rooms in memory on eviction
+ * - Loading rooms outside the map, keeping the first stored instance
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomEngineTest {
+
+    @Mock
+    private RoomStateReader roomStateReader;
+
+    @Mock
+    private RoomStateWriter roomStateWriter;
+
+    @Mock
+    private GameHistoryWriter gameHistoryWriter;
+
+    @Mock
+    private RoomChangeNotifier roomChangeNotifier;
+
+    @Mock
+    private RoomActivityTracker roomActivityTracker;
+
+    private RoomEngine roomEngine;
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long PLAYER_ID = 10L;
+    private static final RoomCode ROOM_CODE = RoomCode.of("ABC234");
+
+    @BeforeEach
+    void setUp() {
+        roomEngine = new RoomEngine(roomStateReader, roomStateWriter, gameHistoryWriter, roomChangeNotifier,
+            roomActivityTracker, new SimpleMeterRegistry(), 10, 10000);
+    }
+
+    @Test
+    void testFlush_failedWriteRestoresDirtyState() {
+        when(roomStateReader.read(ROOM_CODE)).thenReturn(Optional.of(liveRoom(0L)));
+        when(roomStateWriter.write(anyList()))
+            .thenThrow(new RuntimeException("connection lost"))
+            .thenReturn(Set.of());
+
+        roomEngine.update(ROOM_CODE, this::addScore);
+        roomEngine.flush();
+
+        // The room and its changed player are written again by the next flush
+        assertEquals(Set.of(ROOM_ID), roomEngine.getDirtyRoomIds());
+        assertFalse(roomEngine.evict(ROOM_CODE));
+
+        roomEngine.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RoomSnapshot>> snapshots = ArgumentCaptor.forClass(List.class);
+        verify(roomStateWriter, times(2)).write(snapshots.capture());
+        RoomSnapshot retried = snapshots.getAllValues().get(1).get(0);
+        assertEquals(1L, retried.stateVersion());
+        assertEquals(0L, retried.baseVersion());
+        assertEquals(List.of(new RoomSnapshot.PlayerRow(PLAYER_ID, "Анна", 10, true, true)), retried.players());
+        assertTrue(roomEngine.getDirtyRoomIds().isEmpty());
+    }
+
+    @Test
+    void testFlush_snapshotsCarryTheLastPersistedVersion() {
+        when(roomStateReader.read(ROOM_CODE)).thenReturn(Optional.of(liveRoom(4L)));
+        when(roomStateWriter.write(anyList())).thenReturn(Set.of());
+
+        roomEngine.update(ROOM_CODE, this::addScore);
+        roomEngine.update(ROOM_CODE, this::addScore);
+        roomEngine.flush();
+        roomEngine.update(ROOM_CODE, this::addScore);
+        roomEngine.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RoomSnapshot>> snapshots = ArgumentCaptor.forClass(List.class);
+        verify(roomStateWriter, times(2)).write(snapshots.capture());
+        RoomSnapshot first = snapshots.getAllValues().get(0).get(0);
+        RoomSnapshot second = snapshots.getAllValues().get(1).get(0);
+        assertEquals(6L, first.stateVersion());
+        assertEquals(4L, first.baseVersion());
+        assertEquals(7L, second.stateVersion());
+        assertEquals(6L, second.baseVersion());
+    }
+
+    @Test
+    void testFlush_conflictedRoomIsDiscardedAndReloaded() {
+        when(roomStateReader.read(ROOM_CODE))
+            .thenReturn(Optional.of(liveRoom(0L)))
+            .thenReturn(Optional.of(liveRoom(7L)));
+        when(roomStateWriter.write(anyList())).thenReturn(Set.of(ROOM_ID));
+
+        roomEngine.update(ROOM_CODE, this::addScore);
+        roomEngine.flush();
+
+        assertEquals(0, roomEngine.getLiveRoomCount());
+        assertTrue(roomEngine.getDirtyRoomIds().isEmpty());
+
+        // The next access loads the stored state instead of the discarded one
+        assertEquals(7L, roomEngine.read(ROOM_CODE, LiveRoom::getStateVersion));
+        verify(roomStateReader, times(2)).read(ROOM_CODE);
+    }
+
+    @Test
+    void testUpdate_retriesAfterConcurrentEviction() throws Exception {
+        LiveRoom evicted = liveRoom(0L);
+        LiveRoom reloaded = liveRoom(0L);
+        when(roomStateReader.read(ROOM_CODE))
+            .thenReturn(Optional.of(evicted))
+            .thenReturn(Optional.of(reloaded));
+        roomEngine.read(ROOM_CODE, LiveRoom::getStateVersion);
+
+        // Hold the room lock so the update blocks after looking up the room
+        evicted.lock();
+        CompletableFuture<LiveRoom> updated = new CompletableFuture<>();
+        Thread updater = new Thread(() -> updated.complete(roomEngine.update(ROOM_CODE, room -> {
+            room.setStatus(RoomStatus.INACTIVE);
+            return room;
+        })));
+        try {
+            updater.start();
+            while (updater.getState() != Thread.State.WAITING) {
+                assertTrue(updater.isAlive());
+                Thread.onSpinWait();
+            }
+            assertTrue(roomEngine.evict(ROOM_CODE));
+        } finally {
+            evicted.unlock();
+        }
+
+        assertSame(reloaded, updated.get(5, TimeUnit.SECONDS));
+        assertEquals(RoomStatus.ACTIVE, evicted.getStatus());
+        assertEquals(RoomStatus.INACTIVE, reloaded.getStatus());
+        assertEquals(Set.of(ROOM_ID), roomEngine.getDirtyRoomIds());
+        verify(roomChangeNotifier).roomChanged(ROOM_CODE, 1L);
+    }
+
+    @Test
+    void testEvict_refusesDirtyRoom() {
+        when(roomStateReader.read(ROOM_CODE)).thenReturn(Optional.of(liveRoom(0L)));
+        when(roomStateWriter.write(anyList())).thenReturn(Set.of());
+
+        roomEngine.update(ROOM_CODE, this::addScore);
+
+        assertFalse(roomEngine.evict(ROOM_CODE));
+        assertEquals(1, roomEngine.getLiveRoomCount());
+
+        // Once the changes are written the room can be dropped
+        roomEngine.flush();
+        assertTrue(roomEngine.evict(ROOM_CODE));
+        assertEquals(0, roomEngine.getLiveRoomCount());
+    }
+
+    @Test
+    void testRead_concurrentLoadsShareTheStoredInstance() throws Exception {
+        LiveRoom slowlyLoaded = liveRoom(0L);
+        LiveRoom quicklyLoaded = liveRoom(0L);
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch finishSlowLoad = new CountDownLatch(1);
+        when(roomStateReader.read(ROOM_CODE))
+            .thenAnswer(invocation -> {
+                slowLoadStarted.countDown();
+                finishSlowLoad.await();
+                return Optional.of(slowlyLoaded);
+            })
+            .thenReturn(Optional.of(quicklyLoaded));
+
+        CompletableFuture<LiveRoom> slowRead =
+            CompletableFuture.supplyAsync(() -> roomEngine.read(ROOM_CODE, room -> room));
+        slowLoadStarted.await();
+
+        // A pending load does not block other lookups
+        CompletableFuture<LiveRoom> quickRead =
+            CompletableFuture.supplyAsync(() -> roomEngine.read(ROOM_CODE, room -> room));
+        try {
+            assertSame(quicklyLoaded, quickRead.get(5, TimeUnit.SECONDS));
+        } finally {
+            finishSlowLoad.countDown();
+        }
+        assertSame(quicklyLoaded, slowRead.get(5, TimeUnit.SECONDS));
+        assertEquals(1, roomEngine.getLiveRoomCount());
+    }
+
+    private Void addScore(LiveRoom room) {
+        room.addScore(room.findPlayerById(PLAYER_ID).orElseThrow(), 10);
+        return null;
+    }
+
+    private static LiveRoom liveRoom(long stateVersion) {
+        Room room = Room.builder()
+            .id(ROOM_ID)
+            .code(ROOM_CODE)
+            .theme("животные")
+            .status(RoomStatus.ACTIVE)
+            .currentLeaderId(PLAYER_ID)
+            .stateVersion(stateVersion)
+            .build();
+        return LiveRoom.from(room, List.of(new LivePlayer(PLAYER_ID, "session-1", "Анна", 0, true, true)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.crocodile.service.engine;
+
+import com.crocodile.model.RoomStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RoomStateWriter
+ *
+ * Tests cover:
+ * - Reporting rooms whose stored row is newer as conflicts
+ * - Skipping player changes of conflicted rooms
+ * - Matching the stored row against the base version rather than the snapshot version
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomStateWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Connection connection;
+
+    private RoomStateWriter roomStateWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        roomStateWriter = new RoomStateWriter(jdbcTemplate);
+        lenient().when(preparedStatement.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWrite_conflictedRoomsAreReportedWithoutTheirPlayers() throws Exception {
+        // Only room 1 had an older state_version in the database
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+            .thenReturn(List.of(1L));
+
+        Set<Long> conflicted = roomStateWriter.write(List.of(
+            snapshot(1L, new RoomSnapshot.PlayerRow(10L, "Анна", 10, true, true)),
+            snapshot(2L, new RoomSnapshot.PlayerRow(20L, "Борис", 5, true, true))));
+
+        assertEquals(Set.of(2L), conflicted);
+
+        ArgumentCaptor<PreparedStatementSetter> playerSetter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(anyString(), playerSetter.capture());
+        playerSetter.getValue().setValues(preparedStatement);
+        verify(connection).createArrayOf("bigint", new Object[] {10L});
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWrite_allRoomsConflictedWritesNoPlayers() {
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+            .thenReturn(List.of());
+
+        Set<Long> conflicted = roomStateWriter.write(List.of(
+            snapshot(1L, new RoomSnapshot.PlayerRow(10L, "Анна", 10, true, true))));
+
+        assertEquals(Set.of(1L), conflicted);
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWrite_rowChangedByCleanupConflictsDespiteSeveralPendingMutations() throws Exception {
+        // Loaded at version 0, three unflushed mutations since; the cleanup job bumped the row to 1
+        RoomSnapshot.PlayerRow player = new RoomSnapshot.PlayerRow(10L, "Анна", 30, true, true);
+        RoomSnapshot snapshot = new RoomSnapshot(1L, RoomStatus.ACTIVE, "Кошка", player.id(), 3L, 3L, 0L,
+            List.of(player));
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+            .thenReturn(List.of());
+
+        Set<Long> conflicted = roomStateWriter.write(List.of(snapshot));
+
+        assertEquals(Set.of(1L), conflicted);
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+
+        // The row must still be at the base version 0 - its version 1 being lower than 3 is not enough
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<PreparedStatementSetter> roomSetter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).query(sql.capture(), roomSetter.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("r.state_version = v.base_version"));
+        roomSetter.getValue().setValues(preparedStatement);
+        InOrder arrays = inOrder(connection);
+        arrays.verify(connection, times(2)).createArrayOf("bigint", new Object[] {3L});
+        arrays.verify(connection).createArrayOf("bigint", new Object[] {0L});
+    }
+
+    private static RoomSnapshot snapshot(Long roomId, RoomSnapshot.PlayerRow player) {
+        return new RoomSnapshot(roomId, RoomStatus.ACTIVE, "Кошка", player.id(), 1L, 2L, 1L, List.of(player));
+    }
+}
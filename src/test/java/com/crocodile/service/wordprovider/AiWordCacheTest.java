@@ -0,0 +1,145 @@
+package com.crocodile.service.wordprovider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Database tests for AiWordCache
+ *
+ * Tests cover:
+ * - Saving a batch and loading it back into the word pool
+ * - Refreshing the row of a word generated again
+ * - Loading only words within the retention period
+ * - Deleting expired words
+ *
+ * Runs against PostgreSQL started with Testcontainers, or against an existing database
+ * (the schema is created by Liquibase, every test is rolled back):
+ *   -Dtest.jdbc-url=jdbc:postgresql://localhost:5432/test
+ *   -Dtest.jdbc-username=... -Dtest.jdbc-password=...
+ * Without Docker and without a database URL the tests are skipped.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf("databaseAvailable")
+class AiWordCacheTest {
+
+    private static final String THEME = "кэш-тест";
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WordPool wordPool;
+    private AiWordCache aiWordCache;
+
+    static boolean databaseAvailable() {
+        return System.getProperty("test.jdbc-url") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String jdbcUrl = System.getProperty("test.jdbc-url");
+        String username = System.getProperty("test.jdbc-username", "postgres");
+        String password = System.getProperty("test.jdbc-password", "");
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        String url = jdbcUrl;
+        String user = username;
+        String pass = password;
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> user);
+        registry.add("spring.datasource.password", () -> pass);
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        wordPool = new WordPool();
+        ReflectionTestUtils.setField(wordPool, "minThreshold", 0);
+        aiWordCache = new AiWordCache(jdbcTemplate, wordPool, true, 50, 7);
+    }
+
+    @Test
+    void testSaveAndReload_wordsReturnToThePool() {
+        aiWordCache.saveAsync(THEME, List.of("Кошка", "Собака", "Кошка"), "lm-studio");
+
+        assertEquals(2, countRows("theme = ?", THEME));
+
+        aiWordCache.reload();
+
+        assertEquals(Set.of("Кошка", "Собака"), Set.copyOf(drainPool(THEME)));
+    }
+
+    @Test
+    void testSave_wordGeneratedAgainRefreshesItsRow() {
+        aiWordCache.saveAsync(THEME, List.of("Кошка"), "lm-studio");
+        jdbcTemplate.update("UPDATE ai_word_cache SET generated_at = ? WHERE theme = ?",
+            Timestamp.from(Instant.now().minus(1, ChronoUnit.DAYS)), THEME);
+
+        aiWordCache.saveAsync(THEME, List.of("Кошка"), "yandex-gpt");
+
+        assertEquals(1, countRows("theme = ? AND adapter = 'yandex-gpt' AND generated_at > ?",
+            THEME, Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS))));
+    }
+
+    @Test
+    void testReloadAndDeleteExpired_skipWordsOlderThanRetention() {
+        aiWordCache.saveAsync(THEME, List.of("Кошка", "Собака"), "lm-studio");
+        jdbcTemplate.update("UPDATE ai_word_cache SET generated_at = ? WHERE theme = ? AND word = 'Собака'",
+            Timestamp.from(Instant.now().minus(8, ChronoUnit.DAYS)), THEME);
+
+        aiWordCache.reload();
+        assertEquals(List.of("Кошка"), drainPool(THEME));
+
+        aiWordCache.deleteExpired();
+        assertEquals(0, countRows("theme = ? AND word = 'Собака'", THEME));
+        assertEquals(1, countRows("theme = ?", THEME));
+    }
+
+    private int countRows(String condition, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM ai_word_cache WHERE " + condition, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+
+    private List<String> drainPool(String theme) {
+        List<String> words = new ArrayList<>();
+        String word;
+        while ((word = wordPool.pollWord(theme)) != null) {
+            words.add(word);
+        }
+        return words;
+    }
+}
@@ -2,6 +2,9 @@ package com.crocodile.service.wordprovider;
 
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
 import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
+import com.crocodile.service.wordprovider.llm.LlmRequestHedger;
+import com.crocodile.service.wordprovider.llm.LlmWordStreamer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +14,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,6 +33,7 @@ import static org.mockito.Mockito.lenient;
  * - Word retrieval from pool
  * - Synchronous generation when pool is empty
  * - Pool refill logic
+ * - Single-flight cold generation, batched and streamed, until the words are pooled
  * - Error handling
  */
 @ExtendWith(MockitoExtension.class)
@@ -48,7 +58,11 @@ class AiWordProviderBatchTest {
 
     @BeforeEach
     void setUp() {
-        aiWordProvider = new AiWordProvider(llmAdapterFactory, wordPool, wordPoolRefiller);
+        // Hedging disabled - calls go straight to the adapter
+        LlmRequestHedger hedger = new LlmRequestHedger(llmAdapterFactory, Runnable::run, new SimpleMeterRegistry(),
+            false, 3000, 500, 0.9);
+        aiWordProvider = new AiWordProvider(llmAdapterFactory, wordPool, wordPoolRefiller, hedger,
+            new LlmWordStreamer(Runnable::run));
         
         // Set configuration values
         ReflectionTestUtils.setField(aiWordProvider, "initialSize", INITIAL_SIZE);
@@ -238,5 +252,138 @@ class AiWordProviderBatchTest {
             !list.contains("Word1")
         ));
     }
-}
 
+    @Test
+    void testGenerateWord_streamingReturnsFirstWordAndPoolsTheRest() {
+        ReflectionTestUtils.setField(aiWordProvider, "streamingEnabled", true);
+        when(wordPool.pollWord(TEST_THEME)).thenReturn(null);
+        when(llmAdapter.streamWords(eq(TEST_THEME), eq(INITIAL_SIZE), any())).thenAnswer(invocation -> {
+            Consumer<String> onWord = invocation.getArgument(2);
+            List<String> words = List.of("Кошка", "Собака", "Лошадь");
+            words.forEach(onWord);
+            return words;
+        });
+
+        String word = aiWordProvider.generateWord(TEST_THEME);
+
+        assertEquals("Кошка", word);
+        verify(wordPool).addWord(TEST_THEME, "Собака");
+        verify(wordPool).addWord(TEST_THEME, "Лошадь");
+        verify(wordPool, never()).addWord(TEST_THEME, "Кошка");
+        verify(llmAdapter, never()).generateWords(anyString(), anyInt());
+        verifyNoInteractions(wordPoolRefiller);
+    }
+
+    @Test
+    void testGenerateWord_streamingEndsWithoutWords() {
+        ReflectionTestUtils.setField(aiWordProvider, "streamingEnabled", true);
+        when(wordPool.pollWord(TEST_THEME)).thenReturn(null);
+        when(llmAdapter.streamWords(eq(TEST_THEME), eq(INITIAL_SIZE), any())).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> aiWordProvider.generateWord(TEST_THEME));
+    }
+
+    @Test
+    void testGenerateWord_concurrentColdCallersShareOneGeneration() throws Exception {
+        when(wordPool.pollWord(TEST_THEME)).thenReturn(null);
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(llmAdapter.generateWords(TEST_THEME, INITIAL_SIZE)).thenAnswer(invocation -> {
+            generating.countDown();
+            release.await();
+            return List.of("Кошка", "Собака", "Лошадь");
+        });
+
+        CompletableFuture<String> leader = new CompletableFuture<>();
+        Thread leaderThread = new Thread(() -> leader.complete(aiWordProvider.generateWord(TEST_THEME)));
+        leaderThread.start();
+        assertTrue(generating.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> waiter = new CompletableFuture<>();
+        Thread waiterThread = new Thread(() -> waiter.complete(aiWordProvider.generateWord(TEST_THEME)));
+        waiterThread.start();
+        // The waiter parks once it has joined the in-flight generation
+        while (waiterThread.getState() != Thread.State.WAITING) {
+            assertTrue(waiterThread.isAlive());
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("Кошка", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("Собака", waiter.get(5, TimeUnit.SECONDS));
+        verify(llmAdapter, times(1)).generateWords(TEST_THEME, INITIAL_SIZE);
+        verify(wordPool).addWords(TEST_THEME, List.of("Лошадь"));
+    }
+
+    @Test
+    void testGenerateWord_callerArrivingWhileWordsArePooledJoinsTheGeneration() throws Exception {
+        AtomicReference<String> pooledWord = new AtomicReference<>();
+        when(wordPool.pollWord(TEST_THEME)).thenAnswer(invocation -> pooledWord.getAndSet(null));
+        when(llmAdapter.generateWords(TEST_THEME, INITIAL_SIZE)).thenReturn(List.of("Кошка", "Собака"));
+
+        // A caller arrives after the batch was generated, before its words reach the pool
+        CompletableFuture<String> lateCaller = new CompletableFuture<>();
+        AtomicBoolean firstAdd = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (firstAdd.getAndSet(false)) {
+                Thread lateThread = new Thread(() -> lateCaller.complete(aiWordProvider.generateWord(TEST_THEME)));
+                lateThread.start();
+                while (lateThread.getState() != Thread.State.WAITING
+                       && lateThread.getState() != Thread.State.TERMINATED) {
+                    Thread.onSpinWait();
+                }
+            }
+            List<String> words = invocation.getArgument(1);
+            pooledWord.set(words.getFirst());
+            return null;
+        }).when(wordPool).addWords(eq(TEST_THEME), anyList());
+
+        assertEquals("Кошка", aiWordProvider.generateWord(TEST_THEME));
+
+        // The late caller waited for the generation and took the pooled word
+        assertEquals("Собака", lateCaller.get(5, TimeUnit.SECONDS));
+        verify(llmAdapter, times(1)).generateWords(TEST_THEME, INITIAL_SIZE);
+    }
+
+    @Test
+    void testGenerateWord_streamingWaitersTakeStreamedWords() throws Exception {
+        // The stream runs on its own thread, so the leader returns while words are still arriving
+        LlmRequestHedger hedger = new LlmRequestHedger(llmAdapterFactory, Runnable::run, new SimpleMeterRegistry(),
+            false, 3000, 500, 0.9);
+        aiWordProvider = new AiWordProvider(llmAdapterFactory, wordPool, wordPoolRefiller, hedger,
+            new LlmWordStreamer(task -> new Thread(task).start()));
+        ReflectionTestUtils.setField(aiWordProvider, "initialSize", INITIAL_SIZE);
+        ReflectionTestUtils.setField(aiWordProvider, "streamingEnabled", true);
+
+        when(wordPool.pollWord(TEST_THEME)).thenReturn(null);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch streamEnded = new CountDownLatch(1);
+        when(llmAdapter.streamWords(eq(TEST_THEME), eq(INITIAL_SIZE), any())).thenAnswer(invocation -> {
+            Consumer<String> onWord = invocation.getArgument(2);
+            onWord.accept("Кошка");
+            release.await();
+            onWord.accept("Собака");
+            onWord.accept("Лошадь");
+            streamEnded.countDown();
+            return List.of("Кошка", "Собака", "Лошадь");
+        });
+
+        assertEquals("Кошка", aiWordProvider.generateWord(TEST_THEME));
+
+        CompletableFuture<String> waiter = new CompletableFuture<>();
+        Thread waiterThread = new Thread(() -> waiter.complete(aiWordProvider.generateWord(TEST_THEME)));
+        waiterThread.start();
+        // The waiter parks once it has joined the still streaming generation
+        while (waiterThread.getState() != Thread.State.WAITING) {
+            assertTrue(waiterThread.isAlive());
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("Собака", waiter.get(5, TimeUnit.SECONDS));
+        assertTrue(streamEnded.await(5, TimeUnit.SECONDS));
+        verify(llmAdapter, times(1)).streamWords(eq(TEST_THEME), eq(INITIAL_SIZE), any());
+        verify(wordPool, timeout(5000)).addWord(TEST_THEME, "Лошадь");
+        verify(wordPool, never()).addWord(TEST_THEME, "Собака");
+    }
+}
@@ -0,0 +1,138 @@
+package com.crocodile.service.wordprovider;
+
+import com.crocodile.service.wordprovider.llm.LlmAdapter;
+import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
+import com.crocodile.service.wordprovider.llm.LlmRequestHedger;
+import com.crocodile.service.wordprovider.llm.LlmWordStreamer;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Throughput benchmark of cold word generation on platform and virtual threads
+ *
+ * Every request asks AiWordProvider for a word of its own theme, so each request waits
+ * for a synchronous LLM call. The stub adapter sleeps for the configured latency, like a
+ * slow model. The same requests run once on a fixed pool of platform threads, sized like
+ * Tomcat's default (server.tomcat.threads.max=200), and once on one virtual thread per
+ * request, as with spring.threads.virtual.enabled=true.
+ *
+ * The class name does not match the surefire includes, so the benchmark is not part of
+ * the regular test run. Run it with:
+ *   mvn test -Dtest=VirtualThreadThroughputBenchmark
+ * Optional: -Dbenchmark.requests=2000 -Dbenchmark.llm-latency-ms=200 -Dbenchmark.platform-threads=200
+ */
+class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final long LLM_LATENCY_MILLIS = Long.getLong("benchmark.llm-latency-ms", 200);
+    private static final int PLATFORM_THREADS = Integer.getInteger("benchmark.platform-threads", 200);
+    private static final int WORDS_PER_CALL = 10;
+
+    @Test
+    void compareColdGenerationThroughput() throws Exception {
+        // Per-request log lines would make the console the bottleneck
+        ((Logger) LoggerFactory.getLogger("com.crocodile")).setLevel(Level.WARN);
+        AiWordProvider aiWordProvider = aiWordProvider();
+
+        double platformThroughput;
+        try (ExecutorService platformThreads = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            // The first pass warms up the JIT and starts the pool threads
+            measure(aiWordProvider, platformThreads, "platform-warm-up");
+            platformThroughput = measure(aiWordProvider, platformThreads, "platform");
+        }
+        double virtualThroughput;
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            measure(aiWordProvider, virtualThreads, "virtual-warm-up");
+            virtualThroughput = measure(aiWordProvider, virtualThreads, "virtual");
+        }
+
+        System.out.printf("%d requests, LLM latency %d ms%n", REQUESTS, LLM_LATENCY_MILLIS);
+        System.out.printf("  platform threads (%d): %.0f requests/s%n", PLATFORM_THREADS, platformThroughput);
+        System.out.printf("  virtual threads:      %.0f requests/s (x%.1f)%n",
+                          virtualThroughput, virtualThroughput / platformThroughput);
+
+        assertTrue(virtualThroughput > platformThroughput,
+            "Virtual threads should serve more blocked requests per second than a bounded platform pool");
+    }
+
+    /**
+     * Run all requests on the executor
+     *
+     * @return completed requests per second
+     */
+    private static double measure(AiWordProvider aiWordProvider, ExecutorService executor, String mode)
+            throws Exception {
+        List<Callable<String>> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String theme = mode + "-" + i;
+            requests.add(() -> aiWordProvider.generateWord(theme));
+        }
+
+        long startNanos = System.nanoTime();
+        List<Future<String>> words = executor.invokeAll(requests);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        for (Future<String> word : words) {
+            assertNotNull(word.get());
+        }
+        return REQUESTS / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static AiWordProvider aiWordProvider() {
+        LlmAdapterFactory llmAdapterFactory = mock(LlmAdapterFactory.class, withSettings().stubOnly());
+        when(llmAdapterFactory.getActiveAdapter()).thenReturn(new SlowLlmAdapter());
+
+        WordPool wordPool = new WordPool();
+        ReflectionTestUtils.setField(wordPool, "minThreshold", 0);
+
+        // Hedging disabled - every request makes exactly one LLM call
+        LlmRequestHedger hedger = new LlmRequestHedger(llmAdapterFactory, Runnable::run, new SimpleMeterRegistry(),
+            false, 3000, 500, 0.9);
+        AiWordProvider aiWordProvider = new AiWordProvider(llmAdapterFactory, wordPool,
+            mock(WordPoolRefiller.class, withSettings().stubOnly()), hedger, new LlmWordStreamer(Runnable::run));
+        ReflectionTestUtils.setField(aiWordProvider, "initialSize", WORDS_PER_CALL);
+        return aiWordProvider;
+    }
+
+    /**
+     * LLM adapter that blocks like a remote model call
+     */
+    private static final class SlowLlmAdapter implements LlmAdapter {
+
+        @Override
+        public List<String> generateWords(String theme, int count) {
+            try {
+                Thread.sleep(LLM_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", e);
+            }
+            return IntStream.range(0, count).mapToObj(i -> theme + "-word-" + i).toList();
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public String getType() {
+            return "slow-stub";
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.crocodile.service.wordprovider;
 
+import com.crocodile.service.wordprovider.llm.FailoverLlmAdapter;
 import com.crocodile.service.wordprovider.llm.LlmAdapter;
 import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +38,9 @@ class WordPoolRefillerTest {
     @Mock
     private WordPool wordPool;
     
+    @Mock
+    private AiWordCache aiWordCache;
+    
     private WordPoolRefiller wordPoolRefiller;
     
     private static final String TEST_THEME = "животные";
@@ -44,7 +49,7 @@ class WordPoolRefillerTest {
     @BeforeEach
     void setUp() {
         // For testing, we pass the instance itself as 'self' since we're testing directly
-        wordPoolRefiller = new WordPoolRefiller(llmAdapterFactory, wordPool, null);
+        wordPoolRefiller = new WordPoolRefiller(llmAdapterFactory, wordPool, aiWordCache, null);
         
         // Set configuration values
         ReflectionTestUtils.setField(wordPoolRefiller, "batchSize", BATCH_SIZE);
@@ -54,6 +59,9 @@ class WordPoolRefillerTest {
         // Default mock behavior
         lenient().when(llmAdapterFactory.getActiveAdapter()).thenReturn(llmAdapter);
         lenient().when(llmAdapter.getType()).thenReturn("test-adapter");
+        lenient().when(llmAdapter.isGenerative()).thenReturn(true);
+        lenient().when(llmAdapter.generateWordsWithSource(anyString(), anyInt())).thenCallRealMethod();
+        lenient().when(llmAdapter.generateWordsForThemesWithSource(anyList(), anyInt())).thenCallRealMethod();
     }
 
     @Test
@@ -72,6 +80,7 @@ class WordPoolRefillerTest {
         
         verify(llmAdapter).generateWords(TEST_THEME, BATCH_SIZE);
         verify(wordPool).addWords(TEST_THEME, batchWords);
+        verify(aiWordCache).saveAsync(TEST_THEME, batchWords, "test-adapter");
     }
 
     @Test
@@ -161,5 +170,76 @@ class WordPoolRefillerTest {
         verify(wordPool).addWords(theme1, words1);
         verify(wordPool).addWords(theme2, words2);
     }
-}
 
+    @Test
+    void testFlushPendingRefills_groupsThemesIntoOneRequest() {
+        ReflectionTestUtils.setField(wordPoolRefiller, "multiThemeEnabled", true);
+        ReflectionTestUtils.setField(wordPoolRefiller, "maxThemesPerRequest", 5);
+        List<String> words1 = Arrays.asList("Кошка", "Собака");
+        List<String> words2 = Arrays.asList("Врач", "Учитель");
+        when(llmAdapter.generateWordsForThemes(List.of("животные", "профессии"), BATCH_SIZE))
+            .thenReturn(Map.of("животные", words1, "профессии", words2));
+
+        wordPoolRefiller.triggerAsyncRefill("животные");
+        wordPoolRefiller.triggerAsyncRefill("профессии");
+        wordPoolRefiller.triggerAsyncRefill("животные");
+        verifyNoInteractions(llmAdapter);
+
+        wordPoolRefiller.flushPendingRefills();
+
+        verify(llmAdapter).generateWordsForThemes(List.of("животные", "профессии"), BATCH_SIZE);
+        verify(llmAdapter, never()).generateWords(anyString(), anyInt());
+        verify(wordPool).addWords("животные", words1);
+        verify(wordPool).addWords("профессии", words2);
+    }
+
+    @Test
+    void testRefillPoolsAsync_refillsMissingThemeSeparately() {
+        List<String> words1 = Arrays.asList("Кошка", "Собака");
+        List<String> words2 = Arrays.asList("Врач", "Учитель");
+        when(llmAdapter.generateWordsForThemes(List.of("животные", "профессии"), BATCH_SIZE))
+            .thenReturn(Map.of("животные", words1));
+        when(llmAdapter.generateWords("профессии", BATCH_SIZE)).thenReturn(words2);
+
+        wordPoolRefiller.refillPoolsAsync(List.of("животные", "профессии"));
+
+        verify(wordPool).addWords("животные", words1);
+        verify(wordPool).addWords("профессии", words2);
+        verify(llmAdapter, never()).generateWords(eq("животные"), anyInt());
+    }
+
+    @Test
+    void testRefillPoolAsync_cachesWordsUnderTheAdapterThatProducedThem() {
+        LlmAdapter secondary = mock(LlmAdapter.class);
+        when(llmAdapter.isAvailable()).thenReturn(true);
+        when(secondary.isAvailable()).thenReturn(true);
+        when(secondary.getType()).thenReturn("secondary");
+        when(secondary.isGenerative()).thenReturn(true);
+        when(llmAdapter.generateWords(TEST_THEME, BATCH_SIZE)).thenThrow(new IllegalStateException("Connection refused"));
+        List<String> words = Arrays.asList("Кошка", "Собака");
+        when(secondary.generateWords(TEST_THEME, BATCH_SIZE)).thenReturn(words);
+        when(llmAdapterFactory.getActiveAdapter()).thenReturn(new FailoverLlmAdapter(List.of(llmAdapter, secondary)));
+
+        wordPoolRefiller.refillPoolAsync(TEST_THEME);
+
+        verify(wordPool).addWords(TEST_THEME, words);
+        verify(aiWordCache).saveAsync(TEST_THEME, words, "secondary");
+    }
+
+    @Test
+    void testRefillPoolAsync_doesNotCacheDatabaseFallbackWords() {
+        LlmAdapter database = mock(LlmAdapter.class);
+        when(llmAdapter.isAvailable()).thenReturn(true);
+        when(database.isAvailable()).thenReturn(true);
+        when(database.isGenerative()).thenReturn(false);
+        when(llmAdapter.generateWords(TEST_THEME, BATCH_SIZE)).thenThrow(new IllegalStateException("Connection refused"));
+        List<String> words = Arrays.asList("Кошка", "Собака");
+        when(database.generateWords(TEST_THEME, BATCH_SIZE)).thenReturn(words);
+        when(llmAdapterFactory.getActiveAdapter()).thenReturn(new FailoverLlmAdapter(List.of(llmAdapter, database)));
+
+        wordPoolRefiller.refillPoolAsync(TEST_THEME);
+
+        verify(wordPool).addWords(TEST_THEME, words);
+        verifyNoInteractions(aiWordCache);
+    }
+}
@@ -0,0 +1,93 @@
+package com.crocodile.service.wordprovider;
+
+import com.crocodile.repository.ThemeRepository;
+import com.crocodile.service.wordprovider.llm.LlmAdapterFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WordPoolWarmer
+ * 
+ * Tests cover:
+ * - Warm-up of themes whose pools need words, grouped per request
+ * - Progress reporting, without themes refilled elsewhere
+ * - Skipping the warm-up when no LLM adapter is available
+ */
+@ExtendWith(MockitoExtension.class)
+class WordPoolWarmerTest {
+
+    @Mock
+    private ThemeRepository themeRepository;
+
+    @Mock
+    private WordPool wordPool;
+
+    @Mock
+    private WordPoolRefiller wordPoolRefiller;
+
+    @Mock
+    private LlmAdapterFactory llmAdapterFactory;
+
+    private WordPoolWarmer createWarmer(int themesPerRequest) {
+        // Runs the workers on the calling thread, requests are not spaced
+        return new WordPoolWarmer(themeRepository, wordPool, wordPoolRefiller, llmAdapterFactory,
+            Runnable::run, true, 2, 0, themesPerRequest);
+    }
+
+    @Test
+    void testWarmUp_refillsThemesThatNeedWords() {
+        WordPoolWarmer warmer = createWarmer(2);
+        when(themeRepository.findAllThemeNames()).thenReturn(List.of("Животные", "Кино", "Профессии", "Спорт"));
+        when(wordPool.needsRefill(anyString())).thenReturn(true);
+        when(wordPool.needsRefill("Кино")).thenReturn(false);
+        when(wordPool.isEmpty(anyString())).thenReturn(false);
+        when(wordPool.isEmpty("Спорт")).thenReturn(true);
+        when(wordPoolRefiller.refillPoolsNow(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        warmer.warmUp();
+
+        verify(wordPoolRefiller).refillPoolsNow(List.of("Животные", "Профессии"));
+        verify(wordPoolRefiller).refillPoolsNow(List.of("Спорт"));
+        verifyNoMoreInteractions(wordPoolRefiller);
+        assertEquals(WordPoolWarmer.State.COMPLETED, warmer.getState());
+        assertEquals(3, warmer.getTotalThemes());
+        assertEquals(2, warmer.getWarmedThemes());
+        assertEquals(1, warmer.getFailedThemes());
+    }
+
+    @Test
+    void testWarmUp_themeRefilledElsewhereIsNotCountedAsFailed() {
+        WordPoolWarmer warmer = createWarmer(2);
+        when(themeRepository.findAllThemeNames()).thenReturn(List.of("Животные", "Спорт"));
+        when(wordPool.needsRefill(anyString())).thenReturn(true);
+        when(wordPool.isEmpty("Животные")).thenReturn(false);
+        // A refill of "Спорт" triggered by a room is still running
+        when(wordPoolRefiller.refillPoolsNow(List.of("Животные", "Спорт"))).thenReturn(List.of("Животные"));
+
+        warmer.warmUp();
+
+        verify(wordPool, never()).isEmpty("Спорт");
+        assertEquals(2, warmer.getTotalThemes());
+        assertEquals(1, warmer.getWarmedThemes());
+        assertEquals(0, warmer.getFailedThemes());
+    }
+
+    @Test
+    void testWarmUp_skippedWithoutAvailableAdapter() {
+        WordPoolWarmer warmer = createWarmer(5);
+        when(llmAdapterFactory.getActiveAdapter()).thenThrow(new IllegalStateException("not available"));
+
+        warmer.warmUp();
+
+        assertEquals(WordPoolWarmer.State.SKIPPED, warmer.getState());
+        verifyNoInteractions(wordPoolRefiller, themeRepository);
+    }
+}
@@ -0,0 +1,86 @@
+package com.crocodile.service.wordprovider.llm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FailoverLlmAdapter over circuit-breaker guarded adapters
+ * 
+ * Tests cover:
+ * - Failover to the next adapter of the chain
+ * - Skipping an adapter with an open circuit breaker without calling it
+ * - Error when every adapter fails
+ */
+@ExtendWith(MockitoExtension.class)
+class FailoverLlmAdapterTest {
+
+    private static final String THEME = "животные";
+
+    @Mock
+    private LlmAdapter primary;
+
+    @Mock
+    private LlmAdapter secondary;
+
+    private FailoverLlmAdapter failoverAdapter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(primary.getType()).thenReturn("primary");
+        lenient().when(secondary.getType()).thenReturn("secondary");
+        lenient().when(primary.isAvailable()).thenReturn(true);
+        lenient().when(secondary.isAvailable()).thenReturn(true);
+        failoverAdapter = new FailoverLlmAdapter(List.of(
+            new GuardedLlmAdapter(primary, new LlmCircuitBreaker("primary", 2, 60_000)),
+            new GuardedLlmAdapter(secondary, new LlmCircuitBreaker("secondary", 2, 60_000))
+        ));
+    }
+
+    @Test
+    void testGenerateWords_usesFirstAdapter() {
+        when(primary.generateWords(THEME, 5)).thenReturn(List.of("Кошка"));
+
+        assertEquals(List.of("Кошка"), failoverAdapter.generateWords(THEME, 5));
+        verifyNoInteractions(secondary);
+    }
+
+    @Test
+    void testGenerateWords_failsOverToNextAdapter() {
+        when(primary.generateWords(THEME, 5)).thenThrow(new IllegalStateException("Connection refused"));
+        when(secondary.generateWords(THEME, 5)).thenReturn(List.of("Собака"));
+
+        assertEquals(List.of("Собака"), failoverAdapter.generateWords(THEME, 5));
+    }
+
+    @Test
+    void testGenerateWords_skipsAdapterWithOpenCircuit() {
+        when(primary.generateWords(THEME, 5)).thenThrow(new IllegalStateException("Connection refused"));
+        when(secondary.generateWords(THEME, 5)).thenReturn(List.of("Собака"));
+
+        // Two failures open the primary's circuit breaker
+        failoverAdapter.generateWords(THEME, 5);
+        failoverAdapter.generateWords(THEME, 5);
+        failoverAdapter.generateWords(THEME, 5);
+
+        verify(primary, times(2)).generateWords(THEME, 5);
+        verify(secondary, times(3)).generateWords(THEME, 5);
+        assertEquals("secondary", failoverAdapter.getType());
+    }
+
+    @Test
+    void testGenerateWords_allAdaptersFail() {
+        when(primary.generateWords(THEME, 5)).thenThrow(new IllegalStateException("Connection refused"));
+        when(secondary.isAvailable()).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> failoverAdapter.generateWords(THEME, 5));
+        verify(secondary, never()).generateWords(anyString(), anyInt());
+    }
+}
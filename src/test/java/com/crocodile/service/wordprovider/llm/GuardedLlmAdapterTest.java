@@ -0,0 +1,62 @@
+package com.crocodile.service.wordprovider.llm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GuardedLlmAdapter
+ * 
+ * Tests cover:
+ * - Counting failed availability checks of a configured adapter
+ * - Skipping the availability check while the breaker is open
+ * - Ignoring unavailability of an adapter that is not configured
+ */
+@ExtendWith(MockitoExtension.class)
+class GuardedLlmAdapterTest {
+
+    @Mock
+    private LlmAdapter delegate;
+
+    private LlmCircuitBreaker circuitBreaker;
+    private GuardedLlmAdapter guardedAdapter;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong now = new AtomicLong();
+        circuitBreaker = new LlmCircuitBreaker("lm-studio", 2, 30_000, now::get);
+        guardedAdapter = new GuardedLlmAdapter(delegate, circuitBreaker);
+    }
+
+    @Test
+    void testIsAvailable_failedChecksOpenTheBreaker() {
+        when(delegate.isConfigured()).thenReturn(true);
+        when(delegate.isAvailable()).thenReturn(false);
+
+        assertFalse(guardedAdapter.isAvailable());
+        assertFalse(guardedAdapter.isAvailable());
+        assertEquals(LlmCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // While open the backend is not asked again
+        assertFalse(guardedAdapter.isAvailable());
+        verify(delegate, times(2)).isAvailable();
+    }
+
+    @Test
+    void testIsAvailable_unconfiguredAdapterIsNotCounted() {
+        when(delegate.isConfigured()).thenReturn(false);
+        when(delegate.isAvailable()).thenReturn(false);
+
+        assertFalse(guardedAdapter.isAvailable());
+        assertFalse(guardedAdapter.isAvailable());
+
+        assertEquals(LlmCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
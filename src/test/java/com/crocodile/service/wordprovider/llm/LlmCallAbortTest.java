@@ -0,0 +1,107 @@
+package com.crocodile.service.wordprovider.llm;
+
+import com.crocodile.config.RestTemplateConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LlmCallAbort with the application's RestTemplate
+ *
+ * Tests cover:
+ * - Aborting a call blocked on reading the response
+ * - Refusing connections of a call aborted before it connected
+ * - Ignoring an abort after the call finished
+ */
+class LlmCallAbortTest {
+
+    private HttpServer server;
+    private CountDownLatch requestReceived;
+    private CountDownLatch releaseResponse;
+    private final AtomicInteger requests = new AtomicInteger();
+    private RestTemplate restTemplate;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requestReceived = new CountDownLatch(1);
+        releaseResponse = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/completion", exchange -> {
+            requests.incrementAndGet();
+            requestReceived.countDown();
+            try {
+                // A slow model: the answer comes long after the request
+                releaseResponse.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "Кошка".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(task -> new Thread(task).start());
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/completion";
+
+        // No timeouts configured - only the abort can end the call
+        restTemplate = new RestTemplateConfig().restTemplate(new RestTemplateBuilder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseResponse.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void testAbort_endsBlockedRead() throws Exception {
+        LlmCallAbort abort = new LlmCallAbort();
+        CompletableFuture<String> response = CompletableFuture.supplyAsync(
+            () -> abort.call(() -> restTemplate.getForObject(url, String.class)));
+        assertTrue(requestReceived.await(5, TimeUnit.SECONDS));
+
+        abort.abort();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> response.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ResourceAccessException.class, e.getCause());
+    }
+
+    @Test
+    void testAbort_beforeTheCallConnects() {
+        LlmCallAbort abort = new LlmCallAbort();
+        abort.abort();
+
+        assertThrows(ResourceAccessException.class,
+            () -> abort.call(() -> restTemplate.getForObject(url, String.class)));
+        assertEquals(0, requests.get());
+    }
+
+    @Test
+    void testAbort_afterTheCallFinishedDoesNothing() {
+        releaseResponse.countDown();
+        LlmCallAbort abort = new LlmCallAbort();
+
+        assertEquals("Кошка", abort.call(() -> restTemplate.getForObject(url, String.class)));
+        abort.abort();
+
+        // Calls outside an abort handle are not affected
+        assertEquals("Кошка", restTemplate.getForObject(url, String.class));
+    }
+}
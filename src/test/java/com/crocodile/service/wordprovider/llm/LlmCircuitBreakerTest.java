@@ -0,0 +1,101 @@
+package com.crocodile.service.wordprovider.llm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LlmCircuitBreaker
+ * 
+ * Tests cover:
+ * - Opening after consecutive failures
+ * - Fast rejection while open
+ * - Half-open probing after the open duration
+ */
+class LlmCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 30_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private LlmCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new LlmCircuitBreaker("test-adapter", 3, OPEN_MILLIS, now::get);
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        failCalls(2);
+        assertEquals(LlmCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        failCalls(1);
+        assertEquals(LlmCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isOpen());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testSuccessResetsFailureCount() {
+        failCalls(2);
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        failCalls(2);
+
+        assertEquals(LlmCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpenLetsSingleProbeThrough() {
+        failCalls(3);
+        advance(OPEN_MILLIS);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(LlmCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire(), "Only one probe at a time");
+
+        circuitBreaker.onSuccess();
+        assertEquals(LlmCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testFailedProbeOpensAgain() {
+        failCalls(3);
+        advance(OPEN_MILLIS);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        assertEquals(LlmCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+        advance(OPEN_MILLIS);
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testReleasedProbeCanBeRetried() {
+        failCalls(3);
+        advance(OPEN_MILLIS);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.release();
+
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    private void failCalls(int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
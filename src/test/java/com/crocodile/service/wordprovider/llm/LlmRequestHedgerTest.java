@@ -0,0 +1,148 @@
+package com.crocodile.service.wordprovider.llm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LlmRequestHedger
+ * 
+ * Tests cover:
+ * - Pass-through when hedging is disabled
+ * - No hedge for calls answered within the delay
+ * - Hedge to another ready adapter winning over a slow call
+ * - Fallback to the slow call when the hedge fails
+ * - Hedge target selection skipping non-generative adapters
+ */
+@ExtendWith(MockitoExtension.class)
+class LlmRequestHedgerTest {
+
+    private static final String THEME = "животные";
+    private static final long HEDGE_DELAY_MS = 50;
+
+    @Mock
+    private LlmAdapterFactory llmAdapterFactory;
+
+    @Mock
+    private LlmAdapter primary;
+
+    @Mock
+    private LlmAdapter secondary;
+
+    @Mock
+    private LlmAdapter database;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private LlmRequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = new LlmRequestHedger(llmAdapterFactory, executor, meterRegistry,
+            true, HEDGE_DELAY_MS, HEDGE_DELAY_MS, 0.9);
+        lenient().when(primary.getType()).thenReturn("primary");
+        lenient().when(secondary.getType()).thenReturn("secondary");
+        lenient().when(secondary.isGenerative()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGenerateWords_disabledCallsAdapterDirectly() {
+        LlmRequestHedger disabled = new LlmRequestHedger(llmAdapterFactory, executor, meterRegistry,
+            false, HEDGE_DELAY_MS, HEDGE_DELAY_MS, 0.9);
+        when(primary.generateWords(THEME, 5)).thenReturn(List.of("Кошка"));
+
+        assertEquals(List.of("Кошка"), disabled.generateWords(primary, THEME, 5));
+        verifyNoInteractions(llmAdapterFactory);
+    }
+
+    @Test
+    void testGenerateWords_fastCallIsNotHedged() {
+        when(primary.generateWords(THEME, 5)).thenReturn(List.of("Кошка"));
+
+        assertEquals(List.of("Кошка"), hedger.generateWords(primary, THEME, 5));
+        assertEquals(0.0, meterRegistry.counter("llm.hedge.sent").count());
+        verifyNoInteractions(llmAdapterFactory);
+    }
+
+    @Test
+    void testGenerateWords_fastFailureIsNotHedged() {
+        when(primary.generateWords(THEME, 5)).thenThrow(new IllegalStateException("LLM service error"));
+
+        assertThrows(IllegalStateException.class, () -> hedger.generateWords(primary, THEME, 5));
+        assertEquals(0.0, meterRegistry.counter("llm.hedge.sent").count());
+    }
+
+    @Test
+    void testGenerateWords_hedgeWinsAndSlowCallIsCancelled() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(primary.generateWords(THEME, 5)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of("Медленно");
+        });
+        when(secondary.generateWords(THEME, 5)).thenReturn(List.of("Собака"));
+        when(llmAdapterFactory.getReadyAdapterTypes()).thenReturn(List.of("primary", "secondary"));
+        when(llmAdapterFactory.findAdapter("secondary")).thenReturn(Optional.of(secondary));
+
+        assertEquals(List.of("Собака"), hedger.generateWords(primary, THEME, 5));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Slow call should be cancelled");
+        assertEquals(1.0, meterRegistry.counter("llm.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("llm.hedge.wins").count());
+    }
+
+    @Test
+    void testGenerateWords_slowCallWinsWhenHedgeFails() {
+        when(primary.generateWords(THEME, 5)).thenAnswer(invocation -> {
+            Thread.sleep(HEDGE_DELAY_MS * 4);
+            return List.of("Кошка");
+        }).thenThrow(new IllegalStateException("LLM service error"));
+        when(llmAdapterFactory.getReadyAdapterTypes()).thenReturn(List.of("primary"));
+
+        assertEquals(List.of("Кошка"), hedger.generateWords(primary, THEME, 5));
+        assertEquals(1.0, meterRegistry.counter("llm.hedge.sent").count());
+        assertEquals(0.0, meterRegistry.counter("llm.hedge.wins").count());
+    }
+
+    @Test
+    void testGenerateWords_hedgeSkipsNonGenerativeAdapter() {
+        when(primary.generateWords(THEME, 5)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return List.of("Медленно");
+        });
+        when(secondary.generateWords(THEME, 5)).thenReturn(List.of("Собака"));
+        when(database.isGenerative()).thenReturn(false);
+        when(llmAdapterFactory.getReadyAdapterTypes()).thenReturn(List.of("primary", "database", "secondary"));
+        when(llmAdapterFactory.findAdapter("database")).thenReturn(Optional.of(database));
+        when(llmAdapterFactory.findAdapter("secondary")).thenReturn(Optional.of(secondary));
+
+        assertEquals(List.of("Собака"), hedger.generateWords(primary, THEME, 5));
+        verify(database, never()).generateWords(anyString(), anyInt());
+        verify(secondary).generateWords(THEME, 5);
+    }
+}
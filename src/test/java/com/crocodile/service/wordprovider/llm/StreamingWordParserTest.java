@@ -0,0 +1,69 @@
+package com.crocodile.service.wordprovider.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingWordParser
+ * 
+ * Tests cover:
+ * - Emitting a word as soon as its separator arrives
+ * - Words split across chunks
+ * - Comma-separated lists
+ * - Cleanup of numbering and quotes
+ */
+class StreamingWordParserTest {
+
+    @Test
+    void testAccept_emitsWordWhenSeparatorArrives() {
+        List<String> emitted = new ArrayList<>();
+        StreamingWordParser parser = new StreamingWordParser(emitted::add);
+
+        parser.accept("Ко");
+        parser.accept("шка");
+        assertTrue(emitted.isEmpty());
+
+        parser.accept("\nСоб");
+        assertEquals(List.of("Кошка"), emitted);
+
+        assertEquals(List.of("Кошка", "Собака"), parserFinish(parser, "ака"));
+        assertEquals(List.of("Кошка", "Собака"), emitted);
+    }
+
+    @Test
+    void testAccept_commaSeparatedList() {
+        List<String> emitted = new ArrayList<>();
+        StreamingWordParser parser = new StreamingWordParser(emitted::add);
+
+        parser.accept("Кошка, Собака,");
+        assertEquals(List.of("Кошка", "Собака"), emitted);
+        assertEquals(List.of("Кошка", "Собака", "Лошадь"), parserFinish(parser, " Лошадь"));
+    }
+
+    @Test
+    void testAccept_newlineListKeepsCommasInsideWords() {
+        StreamingWordParser parser = new StreamingWordParser(word -> { });
+
+        parser.accept("Кошка\nНу, погоди\n");
+
+        assertEquals(List.of("Кошка", "Ну, погоди"), parser.finish());
+    }
+
+    @Test
+    void testAccept_removesNumberingAndQuotes() {
+        StreamingWordParser parser = new StreamingWordParser(word -> { });
+
+        parser.accept("1. Кошка\r\n2.\n\"Собака\"\n\n");
+
+        assertEquals(List.of("Кошка", "Собака"), parser.finish());
+    }
+
+    private static List<String> parserFinish(StreamingWordParser parser, String lastChunk) {
+        parser.accept(lastChunk);
+        return parser.finish();
+    }
+}
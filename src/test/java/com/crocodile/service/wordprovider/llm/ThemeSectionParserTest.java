@@ -0,0 +1,53 @@
+package com.crocodile.service.wordprovider.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ThemeSectionParser
+ * 
+ * Tests cover:
+ * - Splitting a response into per-theme sections
+ * - Lenient header matching
+ * - Ignoring unknown sections and text outside sections
+ */
+class ThemeSectionParserTest {
+
+    @Test
+    void testParse_splitsSectionsByTheme() {
+        String text = "### Животные\nКошка\nСобака\n\n### Профессии\n1. Врач\n2. Учитель\n";
+
+        Map<String, List<String>> words = ThemeSectionParser.parse(text, List.of("Животные", "Профессии"));
+
+        assertEquals(List.of("Кошка", "Собака"), words.get("Животные"));
+        assertEquals(List.of("Врач", "Учитель"), words.get("Профессии"));
+    }
+
+    @Test
+    void testParse_matchesHeadersLeniently() {
+        String text = "## животные:\nКошка\n### «Профессии»\nВрач";
+
+        Map<String, List<String>> words = ThemeSectionParser.parse(text, List.of("Животные", "Профессии"));
+
+        assertEquals(List.of("Кошка"), words.get("Животные"));
+        assertEquals(List.of("Врач"), words.get("Профессии"));
+    }
+
+    @Test
+    void testParse_ignoresUnknownSectionsAndPreamble() {
+        String text = "Вот список:\n### Животные\nКошка\n### Города\nМосква\n";
+
+        Map<String, List<String>> words = ThemeSectionParser.parse(text, List.of("Животные", "Профессии"));
+
+        assertEquals(Map.of("Животные", List.of("Кошка")), words);
+    }
+
+    @Test
+    void testFormatThemes() {
+        assertEquals("### Животные\n### Профессии", ThemeSectionParser.formatThemes(List.of("Животные", "Профессии")));
+    }
+}